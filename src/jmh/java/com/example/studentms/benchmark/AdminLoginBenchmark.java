@@ -0,0 +1,48 @@
+package com.example.studentms.benchmark;
+
+import com.example.studentms.dto.AdminLoginDTO;
+import com.example.studentms.service.AdminService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+//
+// Login throughput against the PBKDF2 work factor, through AdminService and its bounded hashing pool
+// Several client threads log in concurrently, so the score is what the pool sustains (about
+// hashing threads / cost of one hash). Chart it with e.g. "-rf csv -rff login.csv".
+//
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Threads(4)
+@Fork(1)
+public class AdminLoginBenchmark {
+
+    private static final AdminLoginDTO LOGIN = new AdminLoginDTO("bench@bench.test", "bench-password");
+
+    @Param({"10000", "100000", "310000", "600000"})
+    public int iterations;
+
+    private ConfigurableApplicationContext context;
+    private AdminService adminService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("studentms.auth.password.iterations=" + iterations);
+        adminService = context.getBean(AdminService.class);
+        adminService.createAdmin(LOGIN.getEmail(), LOGIN.getPassword());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean login() {
+        return adminService.validateAdmin(LOGIN).join();
+    }
+}
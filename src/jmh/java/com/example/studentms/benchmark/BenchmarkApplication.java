@@ -0,0 +1,72 @@
+package com.example.studentms.benchmark;
+
+import com.example.studentms.StudentmsApplication;
+import com.example.studentms.model.Student;
+import com.example.studentms.repository.StudentRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+//
+// Boots the application against an in-memory H2 database (migrated by Flyway) for benchmarks
+// Each benchmark trial gets its own database so runs don't influence each other
+//
+public final class BenchmarkApplication {
+
+    private static final String[] COURSES = {
+        "Computer Science", "Mathematics", "Physics", "Chemistry", "Biology", "History", "Economics", "Arts"
+    };
+
+    private BenchmarkApplication() {}
+
+    // Properties are passed as command line arguments so they override application.properties;
+    // extra properties replace the defaults below (e.g. the log levels)
+    public static ConfigurableApplicationContext start(String... extraProperties) {
+        return run(WebApplicationType.NONE, extraProperties);
+    }
+
+    // As start(), with the servlet web context (embedded server on a random port) for MockMvc
+    public static ConfigurableApplicationContext startWeb(String... extraProperties) {
+        return run(WebApplicationType.SERVLET, extraProperties);
+    }
+
+    private static ConfigurableApplicationContext run(WebApplicationType webApplicationType, String... extraProperties) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:bench-" + System.nanoTime()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.example.studentms", "WARN");
+        properties.put("server.port", "0");
+        for (String property : extraProperties) {
+            String[] pair = property.split("=", 2);
+            properties.put(pair[0], pair[1]);
+        }
+        List<String> args = new ArrayList<>();
+        properties.forEach((name, value) -> args.add("--" + name + "=" + value));
+        return new SpringApplicationBuilder(StudentmsApplication.class)
+                .web(webApplicationType)
+                .run(args.toArray(new String[0]));
+    }
+
+    // Insert a deterministic set of students spread over a handful of courses
+    public static void seedStudents(StudentRepository studentRepository, int count) {
+        List<Student> batch = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            batch.add(new Student("First" + i, "Last" + i, "student" + i + "@bench.test",
+                    COURSES[i % COURSES.length], 16 + (i % 60)));
+            if (batch.size() == 1000) {
+                studentRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        studentRepository.saveAll(batch);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.studentms.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+//
+// Compares two JMH JSON result files (-rf json) and fails when a benchmark got slower
+//   BenchmarkComparison <baseline.json> <current.json> [threshold-percent, default 5]
+// A benchmark regresses when its score is worse than the baseline by more than the threshold
+// AND the two confidence intervals (score +/- error) don't overlap, so noisy runs don't fail the build.
+// Throughput modes are better when higher, time modes (avgt, sample, ss) when lower.
+// Prints one line per benchmark present in both files and exits with 1 if anything regressed.
+//
+public final class BenchmarkComparison {
+
+    private BenchmarkComparison() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 5.0;
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> current = read(new File(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-90s %s%n", entry.getKey(), "new");
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+            double beforeScore = before.path("primaryMetric").path("score").asDouble();
+            double afterScore = after.path("primaryMetric").path("score").asDouble();
+            double beforeError = error(before);
+            double afterError = error(after);
+            double change = (afterScore - beforeScore) / beforeScore * 100;
+            double worse = higherIsBetter ? -change : change;
+            boolean overlapping = Math.abs(afterScore - beforeScore) <= beforeError + afterError;
+            String verdict;
+            if (worse > threshold && !overlapping) {
+                verdict = "REGRESSION";
+                regressions++;
+            } else if (-worse > threshold && !overlapping) {
+                verdict = "improved";
+            } else {
+                verdict = "";
+            }
+            System.out.printf("%-90s %12.3f -> %12.3f %s  %+7.1f%%  %s%n", entry.getKey(), beforeScore, afterScore,
+                    after.path("primaryMetric").path("scoreUnit").asText(), change, verdict);
+        }
+        for (String missing : baseline.keySet()) {
+            if (!current.containsKey(missing)) {
+                System.out.printf("%-90s %s%n", missing, "missing from current run");
+            }
+        }
+        System.out.printf("%d regression(s) beyond %.1f%%%n", regressions, threshold);
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    // Results keyed by benchmark, mode and parameters, e.g. "...StudentSerializationBenchmark.writeList avgt size=1000"
+    private static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText())
+                    .append(' ').append(result.path("mode").asText());
+            Map<String, String> params = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = result.path("params").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> param = fields.next();
+                params.put(param.getKey(), param.getValue().asText());
+            }
+            params.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    // JMH reports NaN as the error of single-iteration runs
+    private static double error(JsonNode result) {
+        double error = result.path("primaryMetric").path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.studentms.benchmark;
+
+import com.example.studentms.controller.StudentController;
+import com.example.studentms.repository.StudentRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+//
+// Controller throughput with the logging configurations of logback-spring.xml
+//   off            - application loggers disabled (the floor)
+//   dev            - synchronous console + file appenders, application logs at DEBUG (default profile)
+//   prod           - async JSON appender, application logs at INFO, read endpoints sampled 1 in 100
+//   prod-unsampled - as prod but every line is written, to separate the async appender from sampling
+// getStudentById is served from the student cache, so its cost is mostly the logging around it.
+// Console output is discarded so the forked JVM doesn't stream it back to JMH; the file
+// appenders write to logs/ as usual.
+//
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Threads(4)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    private static final int STUDENTS = 1000;
+    private static final String ADMIN = "bench@bench.test";
+    private static final HttpHeaders UNCONDITIONAL = HttpHeaders.EMPTY;
+
+    @Param({"off", "dev", "prod", "prod-unsampled"})
+    public String logging;
+
+    private PrintStream stdout;
+    private ConfigurableApplicationContext context;
+    private StudentController studentController;
+    private long firstStudentId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        context = switch (logging) {
+            case "off" -> BenchmarkApplication.start("logging.level.com.example.studentms=OFF");
+            case "dev" -> BenchmarkApplication.start("logging.level.root=INFO",
+                    "logging.level.com.example.studentms=DEBUG");
+            case "prod" -> BenchmarkApplication.start("spring.profiles.active=prod",
+                    "logging.level.com.example.studentms=INFO");
+            case "prod-unsampled" -> BenchmarkApplication.start("spring.profiles.active=prod",
+                    "logging.level.com.example.studentms=INFO", "studentms.logging.sample-every=1");
+            default -> throw new IllegalArgumentException("Unknown logging configuration: " + logging);
+        };
+        StudentRepository studentRepository = context.getBean(StudentRepository.class);
+        BenchmarkApplication.seedStudents(studentRepository, STUDENTS);
+        firstStudentId = studentRepository.findAllDTOs().get(0).getStudentId();
+        studentController = context.getBean(StudentController.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        System.setOut(stdout);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> getStudentById() {
+        long studentId = firstStudentId + ThreadLocalRandom.current().nextInt(STUDENTS);
+        return studentController.getStudentById(studentId, UNCONDITIONAL, ADMIN);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> checkEmailExists() {
+        String email = "student" + ThreadLocalRandom.current().nextInt(STUDENTS) + "@bench.test";
+        return studentController.checkEmailExists(email, ADMIN);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.studentms.benchmark;
+
+import com.example.studentms.dto.StudentCreateDTO;
+import com.example.studentms.dto.StudentImportReportDTO;
+import com.example.studentms.service.StudentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//
+// Measures bulk import throughput (batched inserts + set-based duplicate check) on embedded H2
+// Each invocation imports BATCH fresh rows; the score is in rows per second
+//
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StudentImportBenchmark {
+
+    private static final int BATCH = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private StudentService studentService;
+    private int nextStudent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        studentService = context.getBean(StudentService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public StudentImportReportDTO importStudents() {
+        List<StudentCreateDTO> students = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++, nextStudent++) {
+            students.add(new StudentCreateDTO("First" + nextStudent, "Last" + nextStudent,
+                    "import" + nextStudent + "@bench.test", "Computer Science", 16 + (nextStudent % 60)));
+        }
+        return studentService.importStudents(students);
+    }
+}
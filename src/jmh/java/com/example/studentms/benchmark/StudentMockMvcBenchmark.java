@@ -0,0 +1,102 @@
+package com.example.studentms.benchmark;
+
+import com.example.studentms.repository.StudentRepository;
+import com.example.studentms.security.AdminAuthenticationFilter;
+import com.example.studentms.security.AdminTokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+//
+// Full Spring MVC round-trips through MockMvc: token filter, handler mapping, argument resolution,
+// service (with its caches and transactions), repository and JSON response, without the network
+//   getStudentById        - cached single student
+//   getStudentsByCourse   - one course of STUDENTS / 8 students, cached per course
+//   createAndDeleteStudent - POST then DELETE, two write transactions and cache evictions
+//
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentMockMvcBenchmark {
+
+    private static final int STUDENTS = 1000;
+
+    private PrintStream stdout;
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private ObjectMapper objectMapper;
+    private String authorization;
+    private long firstStudentId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        // The write endpoints log at WARN for every deletion
+        context = BenchmarkApplication.startWeb("logging.level.com.example.studentms=ERROR");
+        objectMapper = context.getBean(ObjectMapper.class);
+        StudentRepository studentRepository = context.getBean(StudentRepository.class);
+        BenchmarkApplication.seedStudents(studentRepository, STUDENTS);
+        firstStudentId = studentRepository.findAllDTOs().get(0).getStudentId();
+        authorization = "Bearer " + context.getBean(AdminTokenService.class).issueToken("bench@bench.test");
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                .addFilters(context.getBean(AdminAuthenticationFilter.class))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        System.setOut(stdout);
+    }
+
+    @Benchmark
+    public MvcResult getStudentById() throws Exception {
+        long studentId = firstStudentId + ThreadLocalRandom.current().nextInt(STUDENTS);
+        return mockMvc.perform(get("/api/students/" + studentId).header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getStudentsByCourse() throws Exception {
+        return mockMvc.perform(get("/api/students/course/Physics").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult createAndDeleteStudent() throws Exception {
+        String email = "mockmvc-" + System.nanoTime() + "@bench.test";
+        MvcResult created = mockMvc.perform(post("/api/students")
+                        .header(HttpHeaders.AUTHORIZATION, authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Mock\",\"lastName\":\"Mvc\",\"email\":\"" + email
+                                + "\",\"course\":\"Physics\",\"age\":20}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long studentId = objectMapper.readTree(created.getResponse().getContentAsString()).get("studentId").asLong();
+        return mockMvc.perform(delete("/api/students/" + studentId).header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isNoContent())
+                .andReturn();
+    }
+}
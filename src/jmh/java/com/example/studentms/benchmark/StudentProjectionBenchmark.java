@@ -0,0 +1,76 @@
+package com.example.studentms.benchmark;
+
+import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.model.Student;
+import com.example.studentms.repository.StudentRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+//
+// Compares loading managed Student entities and copying them to DTOs (the old read path)
+// with building StudentDTOs directly through the JPQL constructor expression
+// Scores are per row; run with "-prof gc" to see gc.alloc.rate.norm (bytes allocated per row)
+//
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentProjectionBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private StudentRepository studentRepository;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        studentRepository = context.getBean(StudentRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        BenchmarkApplication.seedStudents(studentRepository, ROWS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<StudentDTO> entityLoadAndConvert() {
+        return readOnlyTransaction.execute(status -> studentRepository.findAll()
+                .stream()
+                .map(StudentProjectionBenchmark::convertToDTO)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<StudentDTO> dtoProjection() {
+        return readOnlyTransaction.execute(status -> studentRepository.findAllDTOs());
+    }
+
+    // Same field copy the service used to do before reads were projected
+    private static StudentDTO convertToDTO(Student student) {
+        return new StudentDTO(
+            student.getStudentId(),
+            student.getFirstName(),
+            student.getLastName(),
+            student.getEmail(),
+            student.getCourse(),
+            student.getAge(),
+            student.getRegistrationDate(),
+            student.getLastModifiedDate()
+        );
+    }
+}
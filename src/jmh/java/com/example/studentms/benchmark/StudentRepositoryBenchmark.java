@@ -0,0 +1,73 @@
+package com.example.studentms.benchmark;
+
+import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.repository.StudentRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+//
+// Repository queries against the embedded H2 database, bypassing the service caches
+//   findDTOById        - primary key lookup (cache misses of GET /api/students/{id})
+//   existsByEmail      - unique index probe (POST /api/students, /email/exists)
+//   findDTOsByCourse   - one course out of eight, about STUDENTS / 8 rows
+//   findDTOsAfter      - one keyset page of PAGE_SIZE rows from a random position
+// Calls go straight to the repository proxy: no service transaction, no caches.
+//
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentRepositoryBenchmark {
+
+    private static final int STUDENTS = 10_000;
+    private static final int PAGE_SIZE = 100;
+
+    private ConfigurableApplicationContext context;
+    private StudentRepository studentRepository;
+    private long firstStudentId;
+    private Pageable page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        studentRepository = context.getBean(StudentRepository.class);
+        BenchmarkApplication.seedStudents(studentRepository, STUDENTS);
+        firstStudentId = studentRepository.findAllDTOs().get(0).getStudentId();
+        page = PageRequest.ofSize(PAGE_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<StudentDTO> findDTOById() {
+        return studentRepository.findDTOById(firstStudentId + ThreadLocalRandom.current().nextInt(STUDENTS));
+    }
+
+    @Benchmark
+    public boolean existsByEmail() {
+        return studentRepository.existsByEmail("student" + ThreadLocalRandom.current().nextInt(STUDENTS) + "@bench.test");
+    }
+
+    @Benchmark
+    public List<StudentDTO> findDTOsByCourse() {
+        return studentRepository.findDTOsByCourse("Physics");
+    }
+
+    @Benchmark
+    public List<StudentDTO> findDTOsAfter() {
+        long after = firstStudentId + ThreadLocalRandom.current().nextInt(STUDENTS - PAGE_SIZE);
+        return studentRepository.findDTOsAfter(after, page);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.studentms.benchmark;
+
+import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.service.StudentSearchService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//
+// Search latency of the in-memory index over 1M generated students
+// Sample mode reports percentiles (p0.99 is the figure to watch); the index is queried directly,
+// without loading the result page from the database
+//
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class StudentSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {
+        "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+        "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+        "Christopher", "Nancy", "Daniel", "Lisa", "Matthew", "Betty", "Anthony", "Margaret", "Mark", "Sandra",
+        "Joshua", "Ashley", "Jose", "Emily", "Jonathan", "Donna", "Joan", "Michelle", "Jordan", "Carol"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+        "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson",
+        "Walker", "Young", "Allen", "King", "Wright", "Scott", "Torres", "Nguyen", "Hill", "Flores"
+    };
+
+    private static final String[] COURSES = {
+        "Computer Science", "Mathematics", "Physics", "Chemistry", "Biology", "History", "Economics", "Arts",
+        "Software Engineering", "Data Science", "Philosophy", "Journalism"
+    };
+
+    @Param({"1000000"})
+    public int students;
+
+    // Common short prefix, exact common name, two-token name, email fragment, rare full name
+    @Param({"jo", "smith", "john sm", "garcia42", "jordan flores 7"})
+    public String query;
+
+    private StudentSearchService search;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        search = new StudentSearchService(null);
+        Random random = new Random(42);
+        for (int i = 1; i <= students; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String email = firstName.toLowerCase() + "." + lastName.toLowerCase() + random.nextInt(1000) + "@uni.edu";
+            search.index(new StudentDTO((long) i, firstName, lastName, email,
+                    COURSES[random.nextInt(COURSES.length)], 16 + random.nextInt(60), null, null));
+        }
+    }
+
+    @Benchmark
+    public List<Long> firstPage() {
+        return search.search(query, 0, 21);
+    }
+}
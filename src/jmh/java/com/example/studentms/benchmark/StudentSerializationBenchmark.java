@@ -0,0 +1,75 @@
+package com.example.studentms.benchmark;
+
+import com.example.studentms.dto.StudentDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//
+// Jackson serialization of List<StudentDTO> with the application's ObjectMapper
+//   writeList      - the whole list as one JSON array (the list endpoints)
+//   writeRowByRow  - one writeValue per row onto a shared stream (the /export endpoint)
+// Output goes to a discarding stream so only the serialization is measured.
+// Scores are per list; run with "-prof gc" to see the bytes allocated per list
+//
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentSerializationBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private ObjectWriter rowWriter;
+    private List<StudentDTO> students;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        objectMapper = context.getBean(ObjectMapper.class);
+        // Same writer configuration as StudentController's export
+        rowWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        LocalDateTime now = LocalDateTime.now();
+        students = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            students.add(new StudentDTO((long) i + 1, "First" + i, "Last" + i, "student" + i + "@bench.test",
+                    "Computer Science", 16 + (i % 60), now, now));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void writeList() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), students);
+    }
+
+    @Benchmark
+    public void writeRowByRow() throws IOException {
+        OutputStream out = OutputStream.nullOutputStream();
+        for (StudentDTO student : students) {
+            rowWriter.writeValue(out, student);
+            out.write('\n');
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.studentms.service;
+
+import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.model.Student;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+//
+// Cost of StudentServiceImpl.convertToDTO, the entity to DTO copy on every write path
+// Lives in the service package because the mapper is package-private
+// Scores are per student; run with "-prof gc" to see the bytes allocated per DTO
+//
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentMappingBenchmark {
+
+    private static final int STUDENTS = 1000;
+
+    private Student[] students;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        students = new Student[STUDENTS];
+        for (int i = 0; i < STUDENTS; i++) {
+            Student student = new Student("First" + i, "Last" + i, "student" + i + "@bench.test", "Physics", 16 + (i % 60));
+            student.setStudentId((long) i + 1);
+            student.setRegistrationDate(now);
+            student.setLastModifiedDate(now);
+            students[i] = student;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STUDENTS)
+    public void convertToDTO(Blackhole blackhole) {
+        for (Student student : students) {
+            StudentDTO dto = StudentServiceImpl.convertToDTO(student);
+            blackhole.consume(dto);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.studentms.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+//
+// Latencies of the measured requests, per endpoint ("GET /api/students/{id}", ...) and in total
+// Each client records into its own Recorder (its requests are sequential, so no synchronization);
+// the recorders are merged once the run is over.
+//
+final class LatencyReport {
+
+    static final class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long latency, boolean success) {
+            if (!success) {
+                errors++;
+                return;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+        }
+    }
+
+    private final Map<String, List<Recorder>> recorders = new TreeMap<>();
+
+    synchronized void add(Map<String, Recorder> clientRecorders) {
+        clientRecorders.forEach((endpoint, recorder) ->
+                recorders.computeIfAbsent(endpoint, e -> new ArrayList<>()).add(recorder));
+    }
+
+    // Per endpoint, then "total"; latencies in milliseconds
+    Map<String, Map<String, Object>> summarize(Duration duration) {
+        Map<String, Map<String, Object>> summary = new LinkedHashMap<>();
+        List<Recorder> all = new ArrayList<>();
+        recorders.forEach((endpoint, endpointRecorders) -> {
+            summary.put(endpoint, summarize(endpointRecorders, duration));
+            all.addAll(endpointRecorders);
+        });
+        summary.put("total", summarize(all, duration));
+        return summary;
+    }
+
+    void print(Duration duration) {
+        System.out.printf("%-34s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        summarize(duration).forEach((endpoint, stats) -> System.out.printf(
+                "%-34s %9d %7d %9.0f %9.2f %9.2f %9.2f %9.2f %9.2f%n", endpoint,
+                stats.get("requests"), stats.get("errors"), stats.get("throughput"), stats.get("p50"),
+                stats.get("p90"), stats.get("p99"), stats.get("p99.9"), stats.get("max")));
+    }
+
+    // Endpoint by endpoint, one line per stack (e.g. servlet and reactive runs of the same mix)
+    static void printComparison(Map<String, LatencyReport> reports, Duration duration) {
+        Map<String, Map<String, Map<String, Object>>> summaries = new LinkedHashMap<>();
+        Set<String> endpoints = new TreeSet<>();
+        reports.forEach((stack, report) -> {
+            Map<String, Map<String, Object>> summary = report.summarize(duration);
+            summaries.put(stack, summary);
+            endpoints.addAll(summary.keySet());
+        });
+        endpoints.remove("total");
+        List<String> rows = new ArrayList<>(endpoints);
+        rows.add("total");
+        System.out.printf("%-34s %-9s %9s %7s %9s %9s %9s %9s%n",
+                "endpoint", "stack", "req/s", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (String endpoint : rows) {
+            summaries.forEach((stack, summary) -> {
+                Map<String, Object> stats = summary.get(endpoint);
+                if (stats != null) {
+                    System.out.printf("%-34s %-9s %9.0f %7d %9.2f %9.2f %9.2f %9.2f%n", endpoint, stack,
+                            stats.get("throughput"), stats.get("errors"), stats.get("p50"), stats.get("p99"),
+                            stats.get("p99.9"), stats.get("max"));
+                }
+            });
+        }
+    }
+
+    void write(File file, Map<String, Object> run, Duration duration) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>(run);
+        report.put("endpoints", summarize(duration));
+        writeJson(file, report);
+    }
+
+    // As write(), with the endpoints of every stack under "stacks"
+    static void write(File file, Map<String, Object> run, Map<String, LatencyReport> reports,
+                      Duration duration) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>(run);
+        Map<String, Object> stacks = new LinkedHashMap<>();
+        reports.forEach((stack, stackReport) -> stacks.put(stack, Map.of("endpoints", stackReport.summarize(duration))));
+        report.put("stacks", stacks);
+        writeJson(file, report);
+    }
+
+    private static void writeJson(File file, Map<String, Object> report) throws IOException {
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (directory != null) {
+            directory.mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+    }
+
+    double errorRate() {
+        long requests = 0;
+        long errors = 0;
+        for (List<Recorder> endpointRecorders : recorders.values()) {
+            for (Recorder recorder : endpointRecorders) {
+                requests += recorder.count + recorder.errors;
+                errors += recorder.errors;
+            }
+        }
+        return requests == 0 ? 1.0 : errors / (double) requests;
+    }
+
+    private static Map<String, Object> summarize(List<Recorder> endpointRecorders, Duration duration) {
+        long[] sorted = endpointRecorders.stream()
+                .flatMapToLong(recorder -> Arrays.stream(recorder.latencies, 0, recorder.count))
+                .sorted()
+                .toArray();
+        long errors = endpointRecorders.stream().mapToLong(recorder -> recorder.errors).sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", (long) sorted.length);
+        stats.put("errors", errors);
+        stats.put("throughput", sorted.length / (double) duration.toSeconds());
+        stats.put("p50", percentile(sorted, 0.50));
+        stats.put("p90", percentile(sorted, 0.90));
+        stats.put("p99", percentile(sorted, 0.99));
+        stats.put("p99.9", percentile(sorted, 0.999));
+        stats.put("max", sorted.length == 0 ? Double.NaN : sorted[sorted.length - 1] / 1e6);
+        return stats;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+    }
+}
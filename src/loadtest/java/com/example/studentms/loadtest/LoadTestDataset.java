@@ -0,0 +1,129 @@
+package com.example.studentms.loadtest;
+
+import com.example.studentms.model.Admin;
+import com.example.studentms.model.Student;
+import com.example.studentms.repository.AdminRepository;
+import com.example.studentms.repository.StudentRepository;
+import com.example.studentms.security.PasswordHasher;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+//
+// Synthetic students and admins for the load test, generated from a fixed seed so runs are comparable
+// - courses follow an uneven enrolment (a few large courses, a long tail of small ones)
+// - ages are mostly 18-22, with fewer graduate and mature students
+// - admins are admin<i>@loadtest.test, all with PASSWORD
+// Students are inserted through the repository in batches of BATCH_SIZE (one transaction each, JDBC
+// batching through the pooled ID sequence), so millions of rows don't sit in one persistence context.
+// A file-backed database that already holds enough rows is reused as is.
+//
+final class LoadTestDataset {
+
+    static final String PASSWORD = "loadtest-password";
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int PROGRESS_EVERY = 100_000;
+
+    private static final String[] COURSES = {
+        "Computer Science", "Business Administration", "Psychology", "Biology", "Mechanical Engineering",
+        "Nursing", "Economics", "Mathematics", "Physics", "Chemistry", "History", "English Literature",
+        "Fine Arts", "Philosophy"
+    };
+    // Relative enrolment per course, same order as COURSES
+    private static final int[] COURSE_WEIGHTS = {18, 14, 10, 9, 9, 8, 7, 5, 4, 4, 4, 3, 3, 2};
+
+    private static final String[] FIRST_NAMES = {
+        "James", "Mary", "Mohamed", "Fatima", "Wei", "Aisha", "Lucas", "Sofia", "Arjun", "Yuki",
+        "Noah", "Emma", "Omar", "Layla", "Mateo", "Chloe", "Ivan", "Amara", "Liam", "Zara"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith", "Garcia", "Hassan", "Chen", "Kumar", "Nguyen", "Silva", "Müller", "Okafor", "Rossi",
+        "Kim", "Novak", "Ali", "Brown", "Tanaka", "Lopez", "Ibrahim", "Cohen", "Petrov", "Wilson"
+    };
+
+    private final Random random;
+    private final int totalCourseWeight = Arrays.stream(COURSE_WEIGHTS).sum();
+
+    LoadTestDataset(long seed) {
+        this.random = new Random(seed);
+    }
+
+    // IDs of all students in the database, seeding up to the requested count first
+    long[] seedStudents(ConfigurableApplicationContext context, int count) {
+        StudentRepository studentRepository = context.getBean(StudentRepository.class);
+        long existing = studentRepository.count();
+        if (existing < count) {
+            System.out.printf("Seeding %d students (%d present)%n", count - existing, existing);
+            long started = System.nanoTime();
+            List<Student> batch = new ArrayList<>(BATCH_SIZE);
+            for (long i = existing; i < count; i++) {
+                batch.add(student(i));
+                if (batch.size() == BATCH_SIZE || i == count - 1) {
+                    studentRepository.saveAll(batch);
+                    batch.clear();
+                }
+                if ((i + 1) % PROGRESS_EVERY == 0) {
+                    System.out.printf("  %d students, %.0f rows/s%n", i + 1,
+                            (i + 1 - existing) / ((System.nanoTime() - started) / 1e9));
+                }
+            }
+        }
+        // Read back rather than collected while inserting, so a reused database works the same way
+        List<Long> ids = context.getBean(JdbcTemplate.class)
+                .queryForList("SELECT student_id FROM students ORDER BY student_id", Long.class);
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // Emails of all load-test admins, creating the missing ones (the password is hashed once)
+    List<String> seedAdmins(ConfigurableApplicationContext context, int count) {
+        AdminRepository adminRepository = context.getBean(AdminRepository.class);
+        String hash = null;
+        List<String> emails = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String email = "admin" + i + "@loadtest.test";
+            if (!adminRepository.existsByEmail(email)) {
+                if (hash == null) {
+                    hash = context.getBean(PasswordHasher.class).hash(PASSWORD).join();
+                }
+                adminRepository.save(new Admin(email, hash));
+            }
+            emails.add(email);
+        }
+        return emails;
+    }
+
+    private Student student(long index) {
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String email = firstName.toLowerCase() + "." + index + "@loadtest.test";
+        return new Student(firstName, lastName, email, course(random), age(random));
+    }
+
+    String course(Random random) {
+        int pick = random.nextInt(totalCourseWeight);
+        for (int i = 0; i < COURSES.length; i++) {
+            pick -= COURSE_WEIGHTS[i];
+            if (pick < 0) {
+                return COURSES[i];
+            }
+        }
+        return COURSES[COURSES.length - 1];
+    }
+
+    static int age(Random random) {
+        double pick = random.nextDouble();
+        if (pick < 0.02) {
+            return 16 + random.nextInt(2);
+        } else if (pick < 0.72) {
+            return 18 + random.nextInt(5);
+        } else if (pick < 0.92) {
+            return 23 + random.nextInt(8);
+        }
+        return 31 + random.nextInt(35);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.studentms.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+//
+// Weighted choice of the next operation, parsed from "operation:weight,..." (e.g. "get:60,course:20,crud:20")
+//   login  - POST /api/admin/login
+//   list   - GET /api/students/page from a random position
+//   course - GET /api/students/course/{course}, courses weighted by enrolment
+//   age    - GET /api/students/age over a three year range
+//   get    - GET /api/students/{id}
+//   crud   - POST, PUT and DELETE of a new student, one after the other
+//
+final class RequestMix {
+
+    enum Operation { LOGIN, LIST, COURSE, AGE, GET, CRUD }
+
+    private final Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+    private final int totalWeight;
+
+    RequestMix(String mix) {
+        int total = 0;
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split(":", 2);
+            Operation operation = Operation.valueOf(pair[0].trim().toUpperCase());
+            int weight = pair.length > 1 ? Integer.parseInt(pair[1].trim()) : 1;
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in request mix: " + entry);
+            }
+            weights.merge(operation, weight, Integer::sum);
+            total += weight;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("Request mix has no operations: " + mix);
+        }
+        this.totalWeight = total;
+    }
+
+    boolean includes(Operation operation) {
+        return weights.getOrDefault(operation, 0) > 0;
+    }
+
+    Operation next(Random random) {
+        int pick = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder();
+        weights.forEach((operation, weight) -> description.append(description.length() > 0 ? "," : "")
+                .append(operation.name().toLowerCase()).append(':').append(weight));
+        return description.toString();
+    }
+}
@@ -0,0 +1,338 @@
+package com.example.studentms.loadtest;
+
+import com.example.studentms.StudentmsApplication;
+import com.example.studentms.loadtest.LatencyReport.Recorder;
+import com.example.studentms.security.AdminTokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+//
+// Closed-loop load test of the REST API: every client sends its next request as soon as the previous one
+// is answered, so throughput and latency are what the server sustains at that concurrency.
+// Boots the application on a random port against an embedded H2 database seeded by LoadTestDataset and
+// reports throughput and latency percentiles per endpoint. Runs offline; arguments are key=value:
+//   clients=1000         concurrent clients (one keep-alive connection each)
+//   warmup=10            seconds before latencies are recorded
+//   duration=30          seconds measured
+//   students=10000       student rows (seeded once per file database)
+//   admins=20            admin accounts, used by the login operation
+//   mix=get:1            request mix, see RequestMix (e.g. "login:5,list:10,course:15,age:10,get:45,crud:15")
+//   database=mem         mem, or file to keep the seeded database in db-dir between runs
+//   db-dir=target/loadtest-db
+//   seed=42              seed of the generated data
+//   profile=             Spring profiles to activate, e.g. "virtual" (needs Java 21)
+//   stack=servlet        servlet, reactive (WebFlux over R2DBC, reads only: no login or crud in the mix), or
+//                        both: servlet then reactive against the same data, followed by a side-by-side summary
+//   cache=true           false disables the student cache, so every lookup by ID reads the database
+//   report=              also write the results as JSON to this file
+//   max-error-rate=0.01  exit with status 1 when a larger share of the requests failed (for CI)
+// Arguments starting with "--" are passed to Spring, e.g. --studentms.auth.password.iterations=10000
+//
+public final class StudentLoadTest {
+
+    private StudentLoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(Map.ofEntries(
+                Map.entry("clients", "1000"), Map.entry("warmup", "10"), Map.entry("duration", "30"),
+                Map.entry("students", "10000"), Map.entry("admins", "20"), Map.entry("mix", "get:1"),
+                Map.entry("database", "mem"), Map.entry("db-dir", "target/loadtest-db"), Map.entry("seed", "42"),
+                Map.entry("profile", ""), Map.entry("stack", "servlet"), Map.entry("cache", "true"), Map.entry("report", ""),
+                Map.entry("max-error-rate", "0.01")));
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                springArgs.add(arg);
+                continue;
+            }
+            String[] pair = arg.split("=", 2);
+            options.put(pair[0], pair.length > 1 ? pair[1] : "");
+        }
+        int clients = Integer.parseInt(options.get("clients"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.get("warmup")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.get("duration")));
+        RequestMix mix = new RequestMix(options.get("mix"));
+        List<String> stacks = "both".equals(options.get("stack")) ? List.of("servlet", "reactive") : List.of(options.get("stack"));
+        for (String stack : stacks) {
+            if (!stack.equals("servlet") && !stack.equals("reactive")) {
+                throw new IllegalArgumentException("Unknown stack: " + stack);
+            }
+        }
+        if (stacks.contains("reactive") && (mix.includes(RequestMix.Operation.LOGIN) || mix.includes(RequestMix.Operation.CRUD))) {
+            throw new IllegalArgumentException("The reactive stack only serves reads, remove login and crud from the mix");
+        }
+
+        Map<String, LatencyReport> reports = new LinkedHashMap<>();
+        Map<String, Object> run = new LinkedHashMap<>();
+        double errorRate = 0;
+        for (String stack : stacks) {
+            // Same seed for every stack: an in-memory database is seeded again with the same rows
+            LoadTestDataset dataset = new LoadTestDataset(Long.parseLong(options.get("seed")));
+            try (ConfigurableApplicationContext context = start(options, springArgs, stack)) {
+                long[] studentIds = dataset.seedStudents(context, Integer.parseInt(options.get("students")));
+                List<String> admins = dataset.seedAdmins(context, Integer.parseInt(options.get("admins")));
+                String token = "Bearer " + context.getBean(AdminTokenService.class).issueToken(admins.get(0));
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                String baseUrl = "http://localhost:" + port + "/student-management/api";
+
+                boolean virtualThreads = stack.equals("servlet") && Runtime.version().feature() >= 21 && Boolean.parseBoolean(
+                        context.getEnvironment().getProperty("spring.threads.virtual.enabled"));
+
+                System.out.printf("%s stack, %s: %d clients, %d students, %d admins, cache %s, %s%n",
+                        stack, mix, clients, studentIds.length, admins.size(), options.get("cache"),
+                        stack.equals("reactive") ? "Netty event loops" : (virtualThreads ? "virtual" : "platform") + " request threads");
+                Target target = new Target(baseUrl, token, studentIds, admins, dataset, context.getBean(ObjectMapper.class));
+                LatencyReport report = run(target, mix, clients, warmup, duration);
+                report.print(duration);
+                reports.put(stack, report);
+                errorRate = Math.max(errorRate, report.errorRate());
+
+                run.put("mix", mix.toString());
+                run.put("clients", clients);
+                run.put("students", studentIds.length);
+                run.put("durationSeconds", duration.toSeconds());
+                if (stacks.size() == 1) {
+                    run.put("stack", stack);
+                    run.put("virtualThreads", virtualThreads);
+                }
+            }
+        }
+        if (reports.size() > 1) {
+            System.out.println();
+            LatencyReport.printComparison(reports, duration);
+        }
+        if (!options.get("report").isBlank()) {
+            File file = new File(options.get("report"));
+            if (reports.size() > 1) {
+                LatencyReport.write(file, run, reports, duration);
+            } else {
+                reports.values().iterator().next().write(file, run, duration);
+            }
+        }
+        double maxErrorRate = Double.parseDouble(options.get("max-error-rate"));
+        if (errorRate > maxErrorRate) {
+            System.out.printf("FAILED: error rate %.4f above %.4f%n", errorRate, maxErrorRate);
+            System.exit(1);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(Map<String, String> options, List<String> springArgs, String stack) {
+        String path = new File(options.get("db-dir"), "studentms").getAbsolutePath();
+        boolean file = "file".equals(options.get("database"));
+        String url = file ? "jdbc:h2:file:" + path : "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1";
+        // The reactive stack reads the same H2 database over R2DBC (the JDBC side still runs Flyway and the seeding)
+        String r2dbcUrl = (file ? "r2dbc:h2:file//" + path : "r2dbc:h2:mem:///loadtest")
+                + "?options=DB_CLOSE_DELAY=-1;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_ON_EXIT=FALSE";
+        List<String> properties = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + url + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.r2dbc.url=" + r2dbcUrl,
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--logging.level.root=WARN",
+                // The delete endpoint logs at WARN for every request
+                "--logging.level.com.example.studentms=ERROR"));
+        if (!Boolean.parseBoolean(options.get("cache"))) {
+            properties.add("--studentms.cache.students.spec=maximumSize=0");
+        }
+        properties.addAll(springArgs);
+        // A devtools restart would rerun main() with the Spring arguments instead of ours
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(StudentmsApplication.class);
+        String profiles = options.get("profile");
+        if (!profiles.isBlank()) {
+            builder.profiles(profiles.split(","));
+        }
+        if (stack.equals("reactive")) {
+            builder.profiles("reactive");
+        }
+        return builder.run(properties.toArray(new String[0]));
+    }
+
+    private static LatencyReport run(Target target, RequestMix mix, int clients,
+                                     Duration warmup, Duration duration) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(executor)
+                .build();
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        LatencyReport report = new LatencyReport();
+        CountDownLatch finished = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            new Client(i, httpClient, target, mix, measureFrom, measureUntil, report, finished).next();
+        }
+        finished.await();
+        executor.shutdown();
+        return report;
+    }
+
+    // What the clients need to know about the server and its data
+    private record Target(String baseUrl, String token, long[] studentIds, List<String> admins,
+                          LoadTestDataset dataset, ObjectMapper objectMapper) {}
+
+    // One closed-loop client; its requests are sequential, so its recorders need no synchronization
+    private static final class Client {
+
+        private final int index;
+        private final HttpClient httpClient;
+        private final Target target;
+        private final RequestMix mix;
+        private final long measureFrom;
+        private final long measureUntil;
+        private final LatencyReport report;
+        private final CountDownLatch finished;
+        private final Map<String, Recorder> recorders = new HashMap<>();
+        private long created;
+
+        Client(int index, HttpClient httpClient, Target target, RequestMix mix, long measureFrom, long measureUntil,
+               LatencyReport report, CountDownLatch finished) {
+            this.index = index;
+            this.httpClient = httpClient;
+            this.target = target;
+            this.mix = mix;
+            this.measureFrom = measureFrom;
+            this.measureUntil = measureUntil;
+            this.report = report;
+            this.finished = finished;
+        }
+
+        void next() {
+            if (System.nanoTime() >= measureUntil) {
+                report.add(recorders);
+                finished.countDown();
+                return;
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            CompletableFuture<?> operation = switch (mix.next(random)) {
+                case LOGIN -> login(random);
+                case LIST -> send("GET /api/students/page", get("/students/page?limit=100&after=" + randomStudentId(random)), 200);
+                case COURSE -> send("GET /api/students/course/{course}",
+                        get("/students/course/" + encode(target.dataset().course(random))), 200);
+                case AGE -> {
+                    int minAge = LoadTestDataset.age(random);
+                    yield send("GET /api/students/age", get("/students/age?minAge=" + minAge + "&maxAge=" + (minAge + 2)), 200);
+                }
+                case GET -> send("GET /api/students/{id}", get("/students/" + randomStudentId(random)), 200);
+                case CRUD -> createUpdateDelete(random);
+            };
+            operation.whenComplete((result, error) -> next());
+        }
+
+        private CompletableFuture<?> login(ThreadLocalRandom random) {
+            String email = target.admins().get(random.nextInt(target.admins().size()));
+            HttpRequest request = json("/admin/login")
+                    .POST(body(Map.of("email", email, "password", LoadTestDataset.PASSWORD)))
+                    .build();
+            return send("POST /api/admin/login", request, 200);
+        }
+
+        // Each step only runs when the previous one succeeded
+        private CompletableFuture<?> createUpdateDelete(ThreadLocalRandom random) {
+            Map<String, Object> student = new HashMap<>(Map.of(
+                    "firstName", "Load", "lastName", "Test",
+                    "email", "crud-" + index + "-" + created++ + "@loadtest.test",
+                    "course", target.dataset().course(random), "age", LoadTestDataset.age(random)));
+            HttpRequest create = json("/students").POST(body(student)).build();
+            return send("POST /api/students", create, HttpResponse.BodyHandlers.ofString(), 201)
+                    .thenCompose(response -> {
+                        long studentId = studentId(response.body());
+                        student.put("course", target.dataset().course(random));
+                        HttpRequest update = json("/students/" + studentId).PUT(body(student)).build();
+                        return send("PUT /api/students/{id}", update, 200).thenApply(ignored -> studentId);
+                    })
+                    .thenCompose(studentId -> send("DELETE /api/students/{id}",
+                            authorized("/students/" + studentId).DELETE().build(), 204));
+        }
+
+        private CompletableFuture<HttpResponse<Void>> send(String endpoint, HttpRequest request, int expectedStatus) {
+            return send(endpoint, request, HttpResponse.BodyHandlers.discarding(), expectedStatus);
+        }
+
+        // Records requests started inside the measurement window; an unexpected status fails the returned future
+        private <T> CompletableFuture<HttpResponse<T>> send(String endpoint, HttpRequest request,
+                                                            HttpResponse.BodyHandler<T> bodyHandler, int expectedStatus) {
+            long started = System.nanoTime();
+            return httpClient.sendAsync(request, bodyHandler).thenApply(response -> {
+                boolean success = response.statusCode() == expectedStatus;
+                if (measured(started)) {
+                    recorders.computeIfAbsent(endpoint, e -> new Recorder()).record(System.nanoTime() - started, success);
+                }
+                if (!success) {
+                    throw new IllegalStateException(endpoint + " answered " + response.statusCode());
+                }
+                return response;
+            }).whenComplete((response, error) -> {
+                if (error != null && measured(started) && !(error.getCause() instanceof IllegalStateException)) {
+                    recorders.computeIfAbsent(endpoint, e -> new Recorder()).record(0, false);
+                }
+            });
+        }
+
+        private boolean measured(long started) {
+            return started >= measureFrom && started < measureUntil;
+        }
+
+        private long randomStudentId(ThreadLocalRandom random) {
+            return target.studentIds()[random.nextInt(target.studentIds().length)];
+        }
+
+        private HttpRequest get(String path) {
+            return authorized(path).GET().build();
+        }
+
+        private HttpRequest.Builder json(String path) {
+            return authorized(path).header("Content-Type", "application/json");
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            return HttpRequest.newBuilder(URI.create(target.baseUrl() + path))
+                    .header("Authorization", target.token())
+                    .timeout(Duration.ofSeconds(30));
+        }
+
+        private HttpRequest.BodyPublisher body(Map<String, ?> value) {
+            try {
+                return HttpRequest.BodyPublishers.ofByteArray(target.objectMapper().writeValueAsBytes(value));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private long studentId(String body) {
+            try {
+                return target.objectMapper().readTree(body).get("studentId").asLong();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static String encode(String value) {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.studentms.config;
+
+import com.example.studentms.model.Student;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collections;
+
+// Caffeine caches in front of StudentService and the admin lookups of AdminService
+// Each cache is bounded by size and TTL (W-TinyLFU eviction) and records hit/miss/eviction statistics.
+// The manager is transaction-aware, so puts and evictions made by a write only happen after it commits.
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String STUDENTS = "students";
+    public static final String STUDENTS_BY_COURSE = "studentsByCourse";
+    public static final String ADMINS = "admins";
+
+    // Course lookups are case-insensitive, so course-level entries are keyed by the normalized name
+    public static String courseKey(String course) {
+        return Student.normalizeKey(course);
+    }
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${studentms.cache.students.spec}") String studentsSpec,
+            @Value("${studentms.cache.students-by-course.spec}") String studentsByCourseSpec,
+            @Value("${studentms.cache.admins.spec}") String adminsSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(Collections.emptyList()); // no caches created on the fly
+        cacheManager.registerCustomCache(STUDENTS, Caffeine.from(studentsSpec).build());
+        cacheManager.registerCustomCache(STUDENTS_BY_COURSE, Caffeine.from(studentsByCourseSpec).build());
+        cacheManager.registerCustomCache(ADMINS, Caffeine.from(adminsSpec).build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.studentms.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+// Hibernate second-level cache: Caffeine caches behind JCache, one region per entity, natural-id and query cache
+// Entity regions hold the Student/Admin rows loaded by ID (findById, merges of detached copies), the natural-id
+// regions map emails to IDs, and course-names holds the result of findAllDistinctCourses. Hibernate keeps them
+// in sync with its own writes (READ_WRITE: entries are locked while a transaction changes them, so no reader
+// sees a row older than the last commit); the query cache is dropped whenever the students table is written.
+// Writes that bypass Hibernate (plain SQL) would leave stale entries. Regions must be created here
+// (missing_cache_strategy=fail), each bounded by size and TTL and recording statistics (CacheStatisticsService).
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String STUDENT_REGION = "student";
+    public static final String ADMIN_REGION = "admin";
+    public static final String STUDENT_EMAIL_REGION = "student-emails";
+    public static final String ADMIN_EMAIL_REGION = "admin-emails";
+    public static final String COURSE_NAMES_REGION = "course-names";
+    // Hibernate's own regions: results of cacheable queries without a region, and last write time per table
+    public static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    public static final String[] REGIONS = {STUDENT_REGION, ADMIN_REGION, STUDENT_EMAIL_REGION, ADMIN_EMAIL_REGION,
+            COURSE_NAMES_REGION, DEFAULT_QUERY_REGION, UPDATE_TIMESTAMPS_REGION};
+
+    // Every application context gets its own manager (tests and benchmarks start several in one JVM)
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${studentms.hibernate-cache.student.maximum-size}") long studentSize,
+            @Value("${studentms.hibernate-cache.admin.maximum-size}") long adminSize,
+            @Value("${studentms.hibernate-cache.query.maximum-size}") long querySize,
+            @Value("${studentms.hibernate-cache.expire-after-write}") Duration expireAfterWrite) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("studentms-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        createRegion(cacheManager, STUDENT_REGION, studentSize, expireAfterWrite);
+        createRegion(cacheManager, STUDENT_EMAIL_REGION, studentSize, expireAfterWrite);
+        createRegion(cacheManager, ADMIN_REGION, adminSize, expireAfterWrite);
+        createRegion(cacheManager, ADMIN_EMAIL_REGION, adminSize, expireAfterWrite);
+        createRegion(cacheManager, COURSE_NAMES_REGION, querySize, expireAfterWrite);
+        createRegion(cacheManager, DEFAULT_QUERY_REGION, querySize, expireAfterWrite);
+        // One small entry per table; evicting or expiring one would make cached query results look current
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, 0, null);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    // A maximum size of 0 means unbounded, a null TTL no expiry
+    private static void createRegion(CacheManager cacheManager, String region, long maximumSize,
+                                     Duration expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (maximumSize > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        }
+        if (expireAfterWrite != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        }
+        configuration.setNativeStatisticsEnabled(true);
+        cacheManager.createCache(region, configuration);
+    }
+}
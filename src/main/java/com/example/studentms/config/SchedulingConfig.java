@@ -0,0 +1,10 @@
+package com.example.studentms.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Enables @Scheduled background jobs (e.g. course statistics reconciliation)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,39 @@
+package com.example.studentms.config;
+
+import com.example.studentms.tracing.MethodTracingInterceptor;
+import com.example.studentms.tracing.TracedMethodsPointcut;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+// Tracing from the HTTP request down to the SQL statement
+// - HTTP server spans (and W3C traceparent extraction) come from Spring MVC's observation filter
+// - within a sampled request every public controller, service and repository method gets a span from
+//   MethodTracingInterceptor; it runs outside the transaction and cache proxies, so a service span includes commit and flush
+// - connections, statements (with their SQL) and result sets (with row counts) get spans from datasource-micrometer
+// Spans are exported as OTLP JSON lines to the traces log (see logback-spring.xml), so no collector is needed.
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor methodTracingAdvisor(ObjectProvider<Tracer> tracer) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new TracedMethodsPointcut(),
+                new MethodTracingInterceptor(tracer));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    public SpanExporter otlpJsonLoggingSpanExporter() {
+        return OtlpJsonLoggingSpanExporter.create();
+    }
+}
@@ -1,20 +1,34 @@
 package com.example.studentms.controller;
 
 import com.example.studentms.dto.AdminLoginDTO;
+import com.example.studentms.dto.CacheStatsDTO;
+import com.example.studentms.metrics.StudentMetrics;
+import com.example.studentms.metrics.StudentMetrics.LoginOutcome;
+import com.example.studentms.security.AdminTokenService;
 import com.example.studentms.service.AdminService;
-import jakarta.servlet.http.HttpSession;
+import com.example.studentms.service.CacheStatisticsService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.example.studentms.security.AdminAuthenticationFilter.ADMIN_EMAIL;
 
 @RestController
 @RequestMapping("/api/admin")
+@ConditionalOnWebApplication(type = Type.SERVLET)
 @CrossOrigin(origins = "*")
 public class AdminController {
     
@@ -23,34 +37,62 @@ public class AdminController {
     @Autowired
     private AdminService adminService;
     
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+    
+    @Autowired
+    private AdminTokenService adminTokenService;
+    
+    @Autowired
+    private StudentMetrics studentMetrics;
+    
+    // Password checks run on the hashing pool, so the request thread is released while the hash is computed
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody AdminLoginDTO loginDTO, HttpSession session) { 
+    public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody AdminLoginDTO loginDTO) { 
         logger.info("Admin login attempt for email: {}", loginDTO.getEmail()); 
         
-        if (adminService.validateAdmin(loginDTO)) {
-            // Store admin email in session
-            session.setAttribute("adminEmail", loginDTO.getEmail());
-            
+        CompletableFuture<Boolean> validation;
+        try {
+            validation = adminService.validateAdmin(loginDTO);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Admin login rejected for email: {} - too many logins in progress", loginDTO.getEmail());
+            studentMetrics.recordLogin(LoginOutcome.REJECTED);
+            return CompletableFuture.completedFuture(loginsBusy());
+        }
+        return validation.thenApply(valid -> loginResult(loginDTO, valid));
+    }
+    
+    private ResponseEntity<?> loginResult(AdminLoginDTO loginDTO, boolean valid) {
+        if (valid) {
+            // Signed token to send as "Authorization: Bearer <token>"; nothing is stored server-side
             Map<String, String> response = new HashMap<>();
             response.put("message", "Login successful");
             response.put("email", loginDTO.getEmail());
+            response.put("token", adminTokenService.issueToken(loginDTO.getEmail()));
+            response.put("expiresIn", String.valueOf(adminTokenService.getTokenTtl().toSeconds()));
             
             logger.info("Admin login successful for email: {}", loginDTO.getEmail());
+            studentMetrics.recordLogin(LoginOutcome.SUCCESS);
             return ResponseEntity.ok(response);
         } else {
             logger.warn("Admin login failed for email: {}", loginDTO.getEmail());
+            studentMetrics.recordLogin(LoginOutcome.FAILURE);
             Map<String, String> error = new HashMap<>();
             error.put("error", "Invalid email or password");
             return ResponseEntity.badRequest().body(error);
         }
     }
     
+    private ResponseEntity<?> loginsBusy() {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Too many login attempts in progress, try again shortly");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(error);
+    }
+    
+    // Tokens are self-contained: logging out means the client discards its token, which stays valid until it expires
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpSession session) {
-        String adminEmail = (String) session.getAttribute("adminEmail");
-        session.invalidate();
-        
-        logger.info("Admin logout for email: {}", adminEmail);
+    public ResponseEntity<?> logout() {
+        logger.info("Admin logout");
         
         Map<String, String> response = new HashMap<>();
         response.put("message", "Logout successful");
@@ -58,22 +100,14 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
     
+    // Requests without a valid token are answered with 401 by AdminAuthenticationFilter
     @GetMapping("/check")
-    public ResponseEntity<?> checkLogin(HttpSession session) {
-        String adminEmail = (String) session.getAttribute("adminEmail");
-        
-        if (adminEmail != null) {
-            logger.debug("Admin session check - logged in: {}", adminEmail);
-            Map<String, String> response = new HashMap<>();
-            response.put("message", "Admin is logged in");
-            response.put("email", adminEmail);
-            return ResponseEntity.ok(response);
-        } else {
-            logger.debug("Admin session check - not logged in");
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Not logged in");
-            return ResponseEntity.status(401).body(error);
-        }
+    public ResponseEntity<?> checkLogin(@RequestAttribute(ADMIN_EMAIL) String adminEmail) {
+        logger.debug("Admin token check - logged in: {}", adminEmail);
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Admin is logged in");
+        response.put("email", adminEmail);
+        return ResponseEntity.ok(response);
     }
     
     @PostMapping("/create")
@@ -89,6 +123,9 @@ public class AdminController {
             
             logger.info("Admin created successfully with email: {}", adminDTO.getEmail());
             return ResponseEntity.ok(response);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Admin creation rejected for email: {} - password hashing is saturated", adminDTO.getEmail());
+            return loginsBusy();
         } catch (RuntimeException e) {
             logger.error("Failed to create admin with email: {} - Error: {}", adminDTO.getEmail(), e.getMessage());
             Map<String, String> error = new HashMap<>();
@@ -96,4 +133,11 @@ public class AdminController {
             return ResponseEntity.badRequest().body(error);
         }
     }
+    
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> getCacheStatistics(@RequestAttribute(ADMIN_EMAIL) String adminEmail) {
+        List<CacheStatsDTO> statistics = cacheStatisticsService.getCacheStatistics();
+        logger.debug("Admin {} fetched statistics for {} caches", adminEmail, statistics.size());
+        return ResponseEntity.ok(statistics);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+package com.example.studentms.controller;
+
+import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.dto.StudentPageDTO;
+import com.example.studentms.exception.StudentNotFoundException;
+import com.example.studentms.metrics.StudentMetrics;
+import com.example.studentms.service.ReactiveStudentService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.studentms.security.AdminAuthenticationFilter.ADMIN_EMAIL;
+
+// Student read endpoints of the reactive runtime (reactive profile), same paths and responses as StudentController
+// Lists are written as a JSON array, or as NDJSON when asked for with Accept: application/x-ndjson, element by
+// element as the rows arrive; a slow client slows the database reads down instead of filling the heap.
+@RestController
+@RequestMapping("api/students")
+@CrossOrigin(origins = "*")
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveStudentController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveStudentController.class);
+    
+    private final ReactiveStudentService studentService;
+    private final StudentMetrics studentMetrics;
+    
+    @Autowired
+    public ReactiveStudentController(ReactiveStudentService studentService, StudentMetrics studentMetrics) {
+        this.studentService = studentService;
+        this.studentMetrics = studentMetrics;
+    }
+    
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<StudentDTO> getAllStudents(@RequestAttribute(ADMIN_EMAIL) String adminEmail) {
+        logger.debug("Admin {} fetching all students", adminEmail);
+        return counted("all", studentService.getAllStudents());
+    }
+    
+    @GetMapping("/page")
+    public Mono<StudentPageDTO> getStudentsPage(@RequestParam(required = false) Long after,
+                                                @RequestParam(defaultValue = "50") Integer limit,
+                                                @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
+        logger.debug("Admin {} fetching students page after ID: {} with limit: {}", adminEmail, after, limit);
+        return studentService.getStudentsPage(after, limit)
+                .doOnNext(page -> studentMetrics.recordStudentsReturned("page", page.getStudents().size()));
+    }
+    
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<?>> getStudentById(@PathVariable Long id, @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
+        logger.debug("Admin {} fetching student with ID: {}", adminEmail, id);
+        return studentService.getStudentById(id)
+                .<ResponseEntity<?>>map(student -> ResponseEntity.ok().eTag("\"" + student.getVersion() + "\"").body(student))
+                .onErrorResume(StudentNotFoundException.class, e -> {
+                    Map<String, String> error = new HashMap<>();
+                    error.put("error", e.getMessage());
+                    return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body(error));
+                });
+    }
+    
+    @GetMapping(value = "/course/{course}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<StudentDTO> getStudentsByCourse(@PathVariable String course,
+                                                @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
+        logger.debug("Admin {} fetching students in course: {}", adminEmail, course);
+        return counted("course", studentService.getStudentsByCourse(course));
+    }
+    
+    @GetMapping(value = "/age", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<StudentDTO> getStudentsByAgeRange(@RequestParam Integer minAge,
+                                                  @RequestParam Integer maxAge,
+                                                  @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
+        logger.debug("Admin {} searching students by age range: {}-{}", adminEmail, minAge, maxAge);
+        return counted("age", studentService.getStudentsByAgeRange(minAge, maxAge));
+    }
+    
+    // Collected: a Flux<String> would be written as plain concatenated text rather than a JSON array
+    @GetMapping("/courses")
+    public Mono<List<String>> getAllCourses(@RequestAttribute(ADMIN_EMAIL) String adminEmail) {
+        logger.debug("Admin {} fetching all courses", adminEmail);
+        return studentService.getAllCourses().collectList();
+    }
+    
+    @GetMapping("/course/{course}/count")
+    public Mono<Long> getStudentCountByCourse(@PathVariable String course,
+                                              @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
+        logger.debug("Admin {} getting student count for course: {}", adminEmail, course);
+        return studentService.getStudentCountByCourse(course);
+    }
+    
+    @GetMapping("/email/exists")
+    public Mono<Boolean> checkEmailExists(@RequestParam String email,
+                                          @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
+        logger.debug("Admin {} checking if email exists: {}", adminEmail, email);
+        return studentService.existsByEmail(email);
+    }
+    
+    // Records the number of students sent once the stream completes
+    private Flux<StudentDTO> counted(String query, Flux<StudentDTO> students) {
+        AtomicInteger count = new AtomicInteger();
+        return students
+                .doOnNext(student -> count.incrementAndGet())
+                .doOnComplete(() -> studentMetrics.recordStudentsReturned(query, count.get()));
+    }
+}
@@ -1,122 +1,467 @@
 package com.example.studentms.controller;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.studentms.dto.CourseStatsDTO;
+import com.example.studentms.dto.StudentChangeFeedDTO;
 import com.example.studentms.dto.StudentCreateDTO;
 import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.dto.StudentImportReportDTO;
+import com.example.studentms.dto.StudentListVersionDTO;
+import com.example.studentms.dto.StudentPageDTO;
+import com.example.studentms.dto.StudentSearchResultDTO;
+import com.example.studentms.exception.ChangeFeedExpiredException;
+import com.example.studentms.exception.EmailAlreadyExistsException;
+import com.example.studentms.exception.StudentVersionMismatchException;
+import com.example.studentms.metrics.StudentMetrics;
+import com.example.studentms.service.StudentChangeFeedService;
 import com.example.studentms.service.StudentService;
+import com.example.studentms.util.StudentCsv;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
-import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
+
+import static com.example.studentms.logging.LogSampling.SAMPLED;
+import static com.example.studentms.security.AdminAuthenticationFilter.ADMIN_EMAIL;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("api/students")
 @CrossOrigin(origins = "*")
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class StudentController {
     
     private static final Logger logger = LoggerFactory.getLogger(StudentController.class);
     
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+    
+    // Shorter queries would match a large share of all students on every keystroke
+    private static final int MIN_SEARCH_QUERY_LENGTH = 2;
+    
     private final StudentService studentService;
+    private final StudentChangeFeedService changeFeedService;
+    private final StudentMetrics studentMetrics;
+    private final ObjectWriter exportWriter;
 
     @Autowired
-    public StudentController(StudentService studentService) {
+    public StudentController(StudentService studentService, StudentChangeFeedService changeFeedService,
+                             StudentMetrics studentMetrics, ObjectMapper objectMapper) {
         this.studentService = studentService;
+        this.changeFeedService = changeFeedService;
+        this.studentMetrics = studentMetrics;
+        // Rows are written one by one onto a shared stream, so Jackson must neither flush nor close it
+        this.exportWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
     
-    // Helper method to check if admin is logged in
-    private ResponseEntity<?> checkAdminAuth(HttpSession session) {
-        String adminEmail = (String) session.getAttribute("adminEmail");
-        if (adminEmail == null) {
-            logger.warn("Unauthorized access attempt - no admin session");
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Admin authentication required");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
-        }
-        return null; // Admin is authenticated
-    }
-
     @PostMapping
-    public ResponseEntity<?> createStudent(@Valid @RequestBody StudentCreateDTO studentCreateDTO, HttpSession session) {
-        ResponseEntity<?> authCheck = checkAdminAuth(session);
-        if (authCheck != null) return authCheck;
-        
-        String adminEmail = (String) session.getAttribute("adminEmail");
+    public ResponseEntity<?> createStudent(@Valid @RequestBody StudentCreateDTO studentCreateDTO,
+                                           @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
         logger.info("Admin {} creating student with email: {}", adminEmail, studentCreateDTO.getEmail());
         
-        StudentDTO createdStudent = studentService.createStudent(studentCreateDTO);
+        StudentDTO createdStudent;
+        try {
+            createdStudent = studentService.createStudent(studentCreateDTO);
+        } catch (EmailAlreadyExistsException e) {
+            return emailConflict(adminEmail, e);
+        }
         
         logger.info("Student created successfully with ID: {} by admin: {}", createdStudent.getStudentId(), adminEmail);
         return new ResponseEntity<>(createdStudent, HttpStatus.CREATED);
     }
 
-    @GetMapping
-    public ResponseEntity<?> getAllStudents(HttpSession session) {
-        ResponseEntity<?> authCheck = checkAdminAuth(session);
-        if (authCheck != null) return authCheck;
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> importStudents(@RequestBody List<StudentCreateDTO> students,
+                                            @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
+        logger.info("Admin {} importing {} students", adminEmail, students.size());
         
-        String adminEmail = (String) session.getAttribute("adminEmail");
+        StudentImportReportDTO report = studentService.importStudents(students);
+        
+        logger.info("Admin {} imported {} of {} students ({} failed)", adminEmail, report.getImported(), report.getTotal(), report.getFailed());
+        return ResponseEntity.ok(report);
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<?> importStudentsCsv(Reader body, @RequestAttribute(ADMIN_EMAIL) String adminEmail) throws IOException {
+        return importCsv(body, adminEmail);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importStudentsFile(@RequestParam("file") MultipartFile file,
+                                                @RequestAttribute(ADMIN_EMAIL) String adminEmail) throws IOException {
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            return importCsv(reader, adminEmail);
+        }
+    }
+
+    private ResponseEntity<?> importCsv(Reader reader, String adminEmail) throws IOException {
+        List<StudentCreateDTO> students;
+        try {
+            students = StudentCsv.parse(reader);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Admin {} uploaded an invalid CSV import - Error: {}", adminEmail, e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+        
+        logger.info("Admin {} importing {} students from CSV", adminEmail, students.size());
+        
+        StudentImportReportDTO report = studentService.importStudents(students);
+        
+        logger.info("Admin {} imported {} of {} students ({} failed)", adminEmail, report.getImported(), report.getTotal(), report.getFailed());
+        return ResponseEntity.ok(report);
+    }
+
+    @GetMapping
+    public ResponseEntity<?> getAllStudents(@RequestAttribute(ADMIN_EMAIL) String adminEmail) {
         logger.debug("Admin {} fetching all students", adminEmail);
         
         List<StudentDTO> students = studentService.getAllStudents();
         
-        logger.info("Admin {} retrieved {} students", adminEmail, students.size());
+        logger.info(SAMPLED, "Admin {} retrieved {} students", adminEmail, students.size());
+        studentMetrics.recordStudentsReturned("all", students.size());
         return ResponseEntity.ok(students);
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<?> getStudentById(@PathVariable Long id, HttpSession session) {
-        ResponseEntity<?> authCheck = checkAdminAuth(session);
-        if (authCheck != null) return authCheck;
+    @GetMapping("/page")
+    public ResponseEntity<?> getStudentsPage(@RequestParam(required = false) Long after,
+                                             @RequestParam(defaultValue = "50") Integer limit,
+                                             @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
+        logger.debug("Admin {} fetching students page after ID: {} with limit: {}", adminEmail, after, limit);
+        
+        StudentPageDTO page = studentService.getStudentsPage(after, limit);
         
-        String adminEmail = (String) session.getAttribute("adminEmail");
+        logger.info("Admin {} retrieved page of {} students, next cursor: {}", adminEmail, page.getStudents().size(), page.getNextCursor());
+        studentMetrics.recordStudentsReturned("page", page.getStudents().size());
+        return ResponseEntity.ok(page);
+    }
+
+    // Changes committed after a sequence number, oldest first (since=0 for every change still retained);
+    // pass nextSequence back as "since" for the next page or poll. 410 Gone when some of the requested
+    // changes were already pruned: the client must resync from the full listing.
+    @GetMapping("/changes")
+    public ResponseEntity<?> getChanges(@RequestParam(defaultValue = "0") Long since,
+                                        @RequestParam(defaultValue = "100") Integer limit,
+                                        @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
+        logger.debug("Admin {} fetching student changes after sequence: {} with limit: {}", adminEmail, since, limit);
+        try {
+            StudentChangeFeedDTO feed = changeFeedService.getChanges(since, limit);
+            logger.info(SAMPLED, "Admin {} retrieved {} student changes, next sequence: {}",
+                    adminEmail, feed.getChanges().size(), feed.getNextSequence());
+            return ResponseEntity.ok(feed);
+        } catch (IllegalArgumentException | ChangeFeedExpiredException e) {
+            return changeFeedError(adminEmail, e);
+        }
+    }
+
+    // The same changes as a Server-Sent Events stream ("student-change" events, each with its sequence
+    // number as id); a reconnecting client resumes after its Last-Event-ID instead of since.
+    // The handler must declare an emitter as its body type, so errors are sent through one as JSON.
+    @GetMapping("/changes/stream")
+    public ResponseEntity<ResponseBodyEmitter> streamChanges(@RequestParam(defaultValue = "0") Long since,
+                                                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                                             @RequestAttribute(ADMIN_EMAIL) String adminEmail) throws IOException {
+        try {
+            long from = lastEventId != null && !lastEventId.isBlank() ? Long.parseLong(lastEventId.trim()) : since;
+            logger.info("Admin {} streaming student changes after sequence: {}", adminEmail, from);
+            SseEmitter emitter = changeFeedService.subscribe(from);
+            return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(emitter);
+        } catch (IllegalArgumentException | ChangeFeedExpiredException e) {
+            ResponseEntity<?> error = changeFeedError(adminEmail, e);
+            ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+            emitter.send(error.getBody(), MediaType.APPLICATION_JSON);
+            emitter.complete();
+            return ResponseEntity.status(error.getStatusCode()).contentType(MediaType.APPLICATION_JSON).body(emitter);
+        }
+    }
+
+    private ResponseEntity<?> changeFeedError(String adminEmail, RuntimeException e) {
+        logger.warn("Admin {} requested unavailable student changes - Error: {}", adminEmail, e.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", e instanceof NumberFormatException ? "Invalid Last-Event-ID" : e.getMessage());
+        HttpStatus status = e instanceof ChangeFeedExpiredException ? HttpStatus.GONE : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(error);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchStudents(@RequestParam("q") String query,
+                                            @RequestParam(defaultValue = "0") Integer page,
+                                            @RequestParam(defaultValue = "20") Integer size,
+                                            @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
+        if (query.trim().length() < MIN_SEARCH_QUERY_LENGTH) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Search query must be at least " + MIN_SEARCH_QUERY_LENGTH + " characters");
+            return ResponseEntity.badRequest().body(error);
+        }
+        logger.debug("Admin {} searching students for: {} (page {}, size {})", adminEmail, query, page, size);
+        
+        StudentSearchResultDTO result = studentService.searchStudents(query.trim(), page, size);
+        
+        logger.info("Admin {} found {} students for search: {}", adminEmail, result.getStudents().size(), query);
+        studentMetrics.recordStudentsReturned("search", result.getStudents().size());
+        return ResponseEntity.ok(result);
+    }
+
+    // The export handler must declare StreamingResponseBody as its body type, so errors are streamed as JSON too
+    private ResponseEntity<StreamingResponseBody> streamingError(HttpStatus status, String message) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", message);
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> exportWriter.writeValue(out, error));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportStudents(@RequestParam(defaultValue = "ndjson") String format,
+                                                                @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
+        logger.info("Admin {} exporting all students as {}", adminEmail, format);
+        
+        StreamingResponseBody body;
+        MediaType contentType;
+        if ("ndjson".equalsIgnoreCase(format)) {
+            contentType = MediaType.APPLICATION_NDJSON;
+            body = out -> {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                studentService.exportStudents(student -> {
+                    try {
+                        exportWriter.writeValue(writer, student);
+                        writer.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writer.flush();
+            };
+        } else if ("csv".equalsIgnoreCase(format)) {
+            contentType = TEXT_CSV;
+            body = out -> {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                writer.write(StudentCsv.HEADER);
+                writer.write('\n');
+                studentService.exportStudents(student -> {
+                    try {
+                        writer.write(StudentCsv.toRow(student));
+                        writer.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writer.flush();
+            };
+        } else {
+            return streamingError(HttpStatus.BAD_REQUEST, "Unsupported export format: " + format);
+        }
+        
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header("Content-Disposition", "attachment; filename=\"students." + format.toLowerCase() + "\"")
+                .body(body);
+    }
+
+    // Conditional GET: a client sending back the ETag (If-None-Match) or Last-Modified (If-Modified-Since)
+    // of its copy gets 304 without a body while the student is unchanged
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getStudentById(@PathVariable Long id,
+                                            @RequestHeader HttpHeaders requestHeaders,
+                                            @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
         logger.debug("Admin {} fetching student with ID: {}", adminEmail, id);
         
         StudentDTO student = studentService.getStudentById(id);
+        String eTag = eTag(student.getVersion());
+        Instant lastModified = toInstant(student.getLastModifiedDate());
+        if (notModified(requestHeaders, eTag, lastModified)) {
+            logger.debug("Admin {} already has student ID: {}", adminEmail, id);
+            studentMetrics.recordNotModified("id");
+            return validators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), eTag, lastModified).build();
+        }
         
-        logger.info("Admin {} retrieved student: {} {}", adminEmail, student.getFirstName(), student.getLastName());
-        return ResponseEntity.ok(student);
+        logger.info(SAMPLED, "Admin {} retrieved student: {} {}", adminEmail, student.getFirstName(), student.getLastName());
+        return validators(ResponseEntity.ok(), eTag, lastModified).body(student);
     }
 
+    // Optimistic concurrency: send the ETag of the GET back as If-Match, and the update only applies if
+    // nobody changed the student in between (412 with the current ETag otherwise, 409 when a concurrent
+    // update commits first). Without If-Match the update applies to the current state.
     @PutMapping("/{id}")
     public ResponseEntity<?> updateStudent(@PathVariable Long id, 
                                          @Valid @RequestBody StudentCreateDTO studentCreateDTO, 
-                                         HttpSession session) {
-        ResponseEntity<?> authCheck = checkAdminAuth(session);
-        if (authCheck != null) return authCheck;
-        
-        String adminEmail = (String) session.getAttribute("adminEmail");
+                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                         @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
         logger.info("Admin {} updating student with ID: {}", adminEmail, id);
-        
-        StudentDTO updatedStudent = studentService.updateStudent(id, studentCreateDTO);
+        return update(id, adminEmail, () -> studentService.updateStudent(id, studentCreateDTO, expectedVersion(ifMatch)));
+    }
+
+    // Partial update (JSON Merge Patch): only the fields present in the body change, e.g. {"course": "Physics"}
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> patchStudent(@PathVariable Long id,
+                                          @RequestBody Map<String, Object> patch,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                          @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
+        logger.info("Admin {} patching fields {} of student with ID: {}", adminEmail, patch.keySet(), id);
+        try {
+            return update(id, adminEmail, () -> studentService.patchStudent(id, patch, expectedVersion(ifMatch)));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Admin {} sent an invalid patch for student ID: {} - Error: {}", adminEmail, id, e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    private ResponseEntity<?> update(Long id, String adminEmail, Supplier<StudentDTO> update) {
+        StudentDTO updatedStudent;
+        try {
+            updatedStudent = update.get();
+        } catch (EmailAlreadyExistsException e) {
+            return emailConflict(adminEmail, e);
+        } catch (StudentVersionMismatchException e) {
+            logger.warn("Admin {} updated student ID: {} from a stale copy - Error: {}", adminEmail, id, e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Student was modified by someone else, reload it and retry");
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(eTag(e.getCurrentVersion())).body(error);
+        } catch (OptimisticLockingFailureException e) {
+            logger.warn("Admin {} lost a concurrent update of student ID: {}", adminEmail, id);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Student is being modified concurrently, reload it and retry");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        }
         
         logger.info("Student ID: {} updated successfully by admin: {}", id, adminEmail);
-        return ResponseEntity.ok(updatedStudent);
+        return ResponseEntity.ok().eTag(eTag(updatedStudent.getVersion())).body(updatedStudent);
+    }
+
+    private ResponseEntity<?> emailConflict(String adminEmail, EmailAlreadyExistsException e) {
+        logger.warn("Admin {} used an email that is already taken - Error: {}", adminEmail, e.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    private static String eTag(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    // ETag of a student listing, from its version (see StudentListVersionDTO); timestamps are stored to the microsecond
+    private static String listETag(StudentListVersionDTO version) {
+        Instant lastModified = toInstant(version.getLastModified());
+        long micros = lastModified == null ? 0 : ChronoUnit.MICROS.between(Instant.EPOCH, lastModified);
+        return "\"" + version.getCount() + "-" + version.getVersionSum() + "-" + micros + "\"";
+    }
+
+    // ETag of the course names, a digest of the names themselves
+    private static String coursesETag(List<String> courses) {
+        return "\"" + DigestUtils.md5DigestAsHex(String.join("\n", courses).getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // Timestamps are stored in the server's time zone
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    // Conditional GET (RFC 9110): If-None-Match when present (weak tags compare like strong ones, "*" matches
+    // anything), If-Modified-Since otherwise, at the one-second precision of HTTP dates; an unreadable
+    // If-Modified-Since is ignored
+    private static boolean notModified(HttpHeaders requestHeaders, String eTag, Instant lastModified) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            for (String tag : ifNoneMatch) {
+                String strongTag = tag.startsWith("W/") ? tag.substring(2) : tag;
+                if (tag.equals("*") || strongTag.equals(eTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (lastModified == null) {
+            return false;
+        }
+        long ifModifiedSince;
+        try {
+            ifModifiedSince = requestHeaders.getIfModifiedSince();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return ifModifiedSince >= 0 && lastModified.getEpochSecond() * 1000 <= ifModifiedSince;
+    }
+
+    private static ResponseEntity.BodyBuilder validators(ResponseEntity.BodyBuilder response, String eTag,
+                                                         Instant lastModified) {
+        response.eTag(eTag);
+        if (lastModified != null) {
+            response.lastModified(lastModified);
+        }
+        return response;
+    }
+
+    // Version named by an If-Match header: null when absent or "*" (any current version);
+    // a value that is not one of our ETags can never match
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.parseLong(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteStudent(@PathVariable Long id, HttpSession session) {
-        ResponseEntity<?> authCheck = checkAdminAuth(session);
-        if (authCheck != null) return authCheck;
-        
-        String adminEmail = (String) session.getAttribute("adminEmail");
+    public ResponseEntity<?> deleteStudent(@PathVariable Long id, @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
         logger.warn("Admin {} deleting student with ID: {}", adminEmail, id);
         
         studentService.deleteStudent(id);
@@ -125,56 +470,70 @@ public class StudentController {
         return ResponseEntity.noContent().build();
     }
 
+    // Conditional GET by ETag: a poll that already has the current listing is answered with 304 from an
+    // aggregate query, without loading the students. A full response is checked against that same version:
+    // a cached listing that lags the database is reloaded, so the ETag sent is both the version of the body
+    // and one the next poll can match. No Last-Modified: a deletion does not move the latest modification
+    // of the listing, so If-Modified-Since would miss it.
     @GetMapping("/course/{course}")
-    public ResponseEntity<?> getStudentsByCourse(@PathVariable String course, HttpSession session) {
-        ResponseEntity<?> authCheck = checkAdminAuth(session);
-        if (authCheck != null) return authCheck;
-        
-        String adminEmail = (String) session.getAttribute("adminEmail");
+    public ResponseEntity<?> getStudentsByCourse(@PathVariable String course,
+                                                 @RequestHeader HttpHeaders requestHeaders,
+                                                 @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
         logger.debug("Admin {} searching students by course: {}", adminEmail, course);
         
+        String currentETag = listETag(studentService.getCourseListVersion(course));
+        if (notModified(requestHeaders, currentETag, null)) {
+            logger.debug("Admin {} already has the students in course: {}", adminEmail, course);
+            studentMetrics.recordNotModified("course");
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).build();
+        }
+        
         List<StudentDTO> students = studentService.getStudentsByCourse(course);
+        String eTag = listETag(StudentListVersionDTO.of(students));
+        if (!eTag.equals(currentETag)) {
+            students = studentService.reloadStudentsByCourse(course);
+            eTag = listETag(StudentListVersionDTO.of(students));
+        }
         
         logger.info("Admin {} found {} students in course: {}", adminEmail, students.size(), course);
-        return ResponseEntity.ok(students);
+        studentMetrics.recordStudentsReturned("course", students.size());
+        return ResponseEntity.ok().eTag(eTag).body(students);
     }
 
     @GetMapping("/age")
     public ResponseEntity<?> getStudentsByAgeRange(@RequestParam Integer minAge, 
                                                   @RequestParam Integer maxAge, 
-                                                  HttpSession session) {
-        ResponseEntity<?> authCheck = checkAdminAuth(session);
-        if (authCheck != null) return authCheck;
-        
-        String adminEmail = (String) session.getAttribute("adminEmail");
+                                                  @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
         logger.debug("Admin {} searching students by age range: {}-{}", adminEmail, minAge, maxAge);
         
         List<StudentDTO> students = studentService.getStudentsByAgeRange(minAge, maxAge);
         
         logger.info("Admin {} found {} students in age range {}-{}", adminEmail, students.size(), minAge, maxAge);
+        studentMetrics.recordStudentsReturned("age", students.size());
         return ResponseEntity.ok(students);
     }
 
+    // Conditional GET by ETag; the course names come from the in-memory statistics, so a 304 costs no query
     @GetMapping("/courses")
-    public ResponseEntity<?> getAllCourses(HttpSession session) {
-        ResponseEntity<?> authCheck = checkAdminAuth(session);
-        if (authCheck != null) return authCheck;
-        
-        String adminEmail = (String) session.getAttribute("adminEmail");
+    public ResponseEntity<?> getAllCourses(@RequestHeader HttpHeaders requestHeaders,
+                                           @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
         logger.debug("Admin {} fetching all courses", adminEmail);
         
         List<String> courses = studentService.getAllCourses();
+        String eTag = coursesETag(courses);
+        if (notModified(requestHeaders, eTag, null)) {
+            logger.debug("Admin {} already has all {} courses", adminEmail, courses.size());
+            studentMetrics.recordNotModified("courses");
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         
         logger.info("Admin {} retrieved {} courses", adminEmail, courses.size());
-        return ResponseEntity.ok(courses);
+        return ResponseEntity.ok().eTag(eTag).body(courses);
     }
 
     @GetMapping("/course/{course}/count")
-    public ResponseEntity<?> getStudentCountByCourse(@PathVariable String course, HttpSession session) {
-        ResponseEntity<?> authCheck = checkAdminAuth(session);
-        if (authCheck != null) return authCheck;
-        
-        String adminEmail = (String) session.getAttribute("adminEmail");
+    public ResponseEntity<?> getStudentCountByCourse(@PathVariable String course,
+                                                     @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
         logger.debug("Admin {} getting student count for course: {}", adminEmail, course);
         
         Long count = studentService.getStudentCountByCourse(course);
@@ -183,17 +542,35 @@ public class StudentController {
         return ResponseEntity.ok(count);
     }
 
-    @GetMapping("/email/exists")
-    public ResponseEntity<?> checkEmailExists(@RequestParam String email, HttpSession session) {
-        ResponseEntity<?> authCheck = checkAdminAuth(session);
-        if (authCheck != null) return authCheck;
+    @GetMapping("/course/{course}/stats")
+    public ResponseEntity<?> getCourseStatistics(@PathVariable String course,
+                                                 @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
+        logger.debug("Admin {} getting statistics for course: {}", adminEmail, course);
+        
+        CourseStatsDTO statistics = studentService.getCourseStatistics(course);
         
-        String adminEmail = (String) session.getAttribute("adminEmail");
+        logger.info("Admin {} retrieved statistics for course: {} ({} students)", adminEmail, course, statistics.getCount());
+        return ResponseEntity.ok(statistics);
+    }
+
+    @GetMapping("/courses/stats")
+    public ResponseEntity<?> getAllCourseStatistics(@RequestAttribute(ADMIN_EMAIL) String adminEmail) {
+        logger.debug("Admin {} fetching statistics for all courses", adminEmail);
+        
+        List<CourseStatsDTO> statistics = studentService.getAllCourseStatistics();
+        
+        logger.info("Admin {} retrieved statistics for {} courses", adminEmail, statistics.size());
+        return ResponseEntity.ok(statistics);
+    }
+
+    @GetMapping("/email/exists")
+    public ResponseEntity<?> checkEmailExists(@RequestParam String email,
+                                              @RequestAttribute(ADMIN_EMAIL) String adminEmail) {
         logger.debug("Admin {} checking if email exists: {}", adminEmail, email);
         
         boolean exists = studentService.existsByEmail(email);
         
-        logger.info("Admin {} checked email {} - exists: {}", adminEmail, email, exists);
+        logger.info(SAMPLED, "Admin {} checked email {} - exists: {}", adminEmail, email, exists);
         return ResponseEntity.ok(exists);
     }
 }
\ No newline at end of file
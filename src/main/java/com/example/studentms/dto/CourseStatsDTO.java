@@ -0,0 +1,40 @@
+package com.example.studentms.dto;
+
+//
+// DTO with the aggregated statistics of one course
+// Ages are null when the course has no students
+//
+public class CourseStatsDTO {
+    private String course;
+    private long count;
+    private Integer minAge;
+    private Integer maxAge;
+    private Double averageAge;
+
+    // Constructors
+    public CourseStatsDTO() {}
+
+    public CourseStatsDTO(String course, long count, Integer minAge, Integer maxAge, Double averageAge) {
+        this.course = course;
+        this.count = count;
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.averageAge = averageAge;
+    }
+
+    // Getters and Setters
+    public String getCourse() { return course; }
+    public void setCourse(String course) { this.course = course; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+
+    public Integer getMinAge() { return minAge; }
+    public void setMinAge(Integer minAge) { this.minAge = minAge; }
+
+    public Integer getMaxAge() { return maxAge; }
+    public void setMaxAge(Integer maxAge) { this.maxAge = maxAge; }
+
+    public Double getAverageAge() { return averageAge; }
+    public void setAverageAge(Double averageAge) { this.averageAge = averageAge; }
+}
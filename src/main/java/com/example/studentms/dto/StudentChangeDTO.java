@@ -0,0 +1,43 @@
+package com.example.studentms.dto;
+
+import java.time.Instant;
+
+//
+// DTO for one entry of the student change feed
+// The student is its state after the change (null for a deletion); the sequence number orders the
+// changes as they were committed
+//
+public class StudentChangeDTO {
+    private long sequence;
+    private String changeType;
+    private Long studentId;
+    private StudentDTO student;
+    private Instant changedAt;
+
+    // Constructors
+    public StudentChangeDTO() {}
+
+    public StudentChangeDTO(long sequence, String changeType, Long studentId, StudentDTO student, Instant changedAt) {
+        this.sequence = sequence;
+        this.changeType = changeType;
+        this.studentId = studentId;
+        this.student = student;
+        this.changedAt = changedAt;
+    }
+
+    // Getters and Setters
+    public long getSequence() { return sequence; }
+    public void setSequence(long sequence) { this.sequence = sequence; }
+
+    public String getChangeType() { return changeType; }
+    public void setChangeType(String changeType) { this.changeType = changeType; }
+
+    public Long getStudentId() { return studentId; }
+    public void setStudentId(Long studentId) { this.studentId = studentId; }
+
+    public StudentDTO getStudent() { return student; }
+    public void setStudent(StudentDTO student) { this.student = student; }
+
+    public Instant getChangedAt() { return changedAt; }
+    public void setChangedAt(Instant changedAt) { this.changedAt = changedAt; }
+}
@@ -0,0 +1,33 @@
+package com.example.studentms.dto;
+
+import java.util.List;
+
+//
+// DTO for one page of the student change feed
+// nextSequence is the "since" to pass for the following page (or the next poll); hasMore tells
+// whether more changes are already waiting
+//
+public class StudentChangeFeedDTO {
+    private List<StudentChangeDTO> changes;
+    private long nextSequence;
+    private boolean hasMore;
+
+    // Constructors
+    public StudentChangeFeedDTO() {}
+
+    public StudentChangeFeedDTO(List<StudentChangeDTO> changes, long nextSequence, boolean hasMore) {
+        this.changes = changes;
+        this.nextSequence = nextSequence;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<StudentChangeDTO> getChanges() { return changes; }
+    public void setChanges(List<StudentChangeDTO> changes) { this.changes = changes; }
+
+    public long getNextSequence() { return nextSequence; }
+    public void setNextSequence(long nextSequence) { this.nextSequence = nextSequence; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
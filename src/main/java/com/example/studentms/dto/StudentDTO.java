@@ -11,6 +11,8 @@ public class StudentDTO {
     private Integer age;
     private LocalDateTime registrationDate;
     private LocalDateTime lastModifiedDate;
+    // Entity version, also sent as the ETag of GET/PUT /api/students/{id}
+    private Long version;
 
     // Constructors
     public StudentDTO() {}
@@ -28,6 +30,13 @@ public class StudentDTO {
         this.lastModifiedDate = lastModifiedDate;
     }
 
+    public StudentDTO(Long studentId, String firstName, String lastName, String email,
+                     String course, Integer age, LocalDateTime registrationDate,
+                     LocalDateTime lastModifiedDate, Long version) {
+        this(studentId, firstName, lastName, email, course, age, registrationDate, lastModifiedDate);
+        this.version = version;
+    }
+
     // Getters and Setters
     public Long getStudentId() { return studentId; }
     public void setStudentId(Long studentId) { this.studentId = studentId; }
@@ -53,6 +62,9 @@ public class StudentDTO {
     public LocalDateTime getLastModifiedDate() { return lastModifiedDate; }
     public void setLastModifiedDate(LocalDateTime lastModifiedDate) { this.lastModifiedDate = lastModifiedDate; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     public String getFullName() {
         return firstName + " " + lastName;
     }
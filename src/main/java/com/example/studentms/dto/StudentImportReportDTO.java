@@ -0,0 +1,37 @@
+package com.example.studentms.dto;
+
+import java.util.List;
+
+//
+// DTO returned by the bulk import endpoints
+// Contains the overall counts plus one entry per submitted row
+//
+public class StudentImportReportDTO {
+    private int total;
+    private int imported;
+    private int failed;
+    private List<StudentImportRowDTO> rows;
+
+    // Constructors
+    public StudentImportReportDTO() {}
+
+    public StudentImportReportDTO(int total, int imported, int failed, List<StudentImportRowDTO> rows) {
+        this.total = total;
+        this.imported = imported;
+        this.failed = failed;
+        this.rows = rows;
+    }
+
+    // Getters and Setters
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+
+    public int getImported() { return imported; }
+    public void setImported(int imported) { this.imported = imported; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public List<StudentImportRowDTO> getRows() { return rows; }
+    public void setRows(List<StudentImportRowDTO> rows) { this.rows = rows; }
+}
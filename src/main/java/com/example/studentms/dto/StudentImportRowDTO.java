@@ -0,0 +1,46 @@
+package com.example.studentms.dto;
+
+import java.util.List;
+
+//
+// DTO describing the outcome of one row of a bulk student import
+// Rows are numbered from 1 in the order they were submitted
+//
+public class StudentImportRowDTO {
+
+    public static final String IMPORTED = "IMPORTED";
+    public static final String FAILED = "FAILED";
+
+    private int row;
+    private String email;
+    private String status;
+    private Long studentId;
+    private List<String> errors;
+
+    // Constructors
+    public StudentImportRowDTO() {}
+
+    public StudentImportRowDTO(int row, String email, String status, Long studentId, List<String> errors) {
+        this.row = row;
+        this.email = email;
+        this.status = status;
+        this.studentId = studentId;
+        this.errors = errors;
+    }
+
+    // Getters and Setters
+    public int getRow() { return row; }
+    public void setRow(int row) { this.row = row; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public Long getStudentId() { return studentId; }
+    public void setStudentId(Long studentId) { this.studentId = studentId; }
+
+    public List<String> getErrors() { return errors; }
+    public void setErrors(List<String> errors) { this.errors = errors; }
+}
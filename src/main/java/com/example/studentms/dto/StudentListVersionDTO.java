@@ -0,0 +1,50 @@
+package com.example.studentms.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+//
+// DTO for the version of a student listing: how many students it has, the sum of their versions and
+// when the latest of them changed. A creation or deletion changes the count, an update the version sum
+// (whatever the clocks of the nodes), a replacement the latest modification; so it stands for the
+// listing's content (its ETag) without loading the students
+//
+public class StudentListVersionDTO {
+    private long count;
+    private long versionSum;
+    private LocalDateTime lastModified;
+
+    // Constructors
+    public StudentListVersionDTO() {}
+
+    // Used by the aggregate query (COUNT, SUM and MAX), so versionSum and lastModified are null for an empty listing
+    public StudentListVersionDTO(Long count, Long versionSum, LocalDateTime lastModified) {
+        this.count = count;
+        this.versionSum = versionSum == null ? 0 : versionSum;
+        this.lastModified = lastModified;
+    }
+
+    // Version of an already loaded listing, equal to the one the aggregate query gives for it
+    public static StudentListVersionDTO of(List<StudentDTO> students) {
+        long versionSum = 0;
+        LocalDateTime lastModified = null;
+        for (StudentDTO student : students) {
+            versionSum += student.getVersion() == null ? 0 : student.getVersion();
+            LocalDateTime modified = student.getLastModifiedDate();
+            if (modified != null && (lastModified == null || modified.isAfter(lastModified))) {
+                lastModified = modified;
+            }
+        }
+        return new StudentListVersionDTO((long) students.size(), versionSum, lastModified);
+    }
+
+    // Getters and Setters
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+
+    public long getVersionSum() { return versionSum; }
+    public void setVersionSum(long versionSum) { this.versionSum = versionSum; }
+
+    public LocalDateTime getLastModified() { return lastModified; }
+    public void setLastModified(LocalDateTime lastModified) { this.lastModified = lastModified; }
+}
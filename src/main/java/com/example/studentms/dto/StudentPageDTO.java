@@ -0,0 +1,33 @@
+package com.example.studentms.dto;
+
+import java.util.List;
+
+//
+// DTO for one page of a keyset-paginated student listing
+// The nextCursor is the studentId to pass as "after" to fetch the following page,
+// it is null once the last page has been reached
+//
+public class StudentPageDTO {
+    private List<StudentDTO> students;
+    private Long nextCursor;
+    private int limit;
+
+    // Constructors
+    public StudentPageDTO() {}
+
+    public StudentPageDTO(List<StudentDTO> students, Long nextCursor, int limit) {
+        this.students = students;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    // Getters and Setters
+    public List<StudentDTO> getStudents() { return students; }
+    public void setStudents(List<StudentDTO> students) { this.students = students; }
+
+    public Long getNextCursor() { return nextCursor; }
+    public void setNextCursor(Long nextCursor) { this.nextCursor = nextCursor; }
+
+    public int getLimit() { return limit; }
+    public void setLimit(int limit) { this.limit = limit; }
+}
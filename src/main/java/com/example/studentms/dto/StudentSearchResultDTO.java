@@ -0,0 +1,42 @@
+package com.example.studentms.dto;
+
+import java.util.List;
+
+//
+// DTO for one page of ranked student search results
+// Pages are numbered from 0; hasMore tells whether the next page has any results
+//
+public class StudentSearchResultDTO {
+    private String query;
+    private List<StudentDTO> students;
+    private int page;
+    private int size;
+    private boolean hasMore;
+
+    // Constructors
+    public StudentSearchResultDTO() {}
+
+    public StudentSearchResultDTO(String query, List<StudentDTO> students, int page, int size, boolean hasMore) {
+        this.query = query;
+        this.students = students;
+        this.page = page;
+        this.size = size;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public String getQuery() { return query; }
+    public void setQuery(String query) { this.query = query; }
+
+    public List<StudentDTO> getStudents() { return students; }
+    public void setStudents(List<StudentDTO> students) { this.students = students; }
+
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
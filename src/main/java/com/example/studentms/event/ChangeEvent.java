@@ -0,0 +1,10 @@
+package com.example.studentms.event;
+
+import java.time.Instant;
+
+// One row of the change_events outbox (see ChangeEventOutbox)
+// The payload is JSON: a StudentChange for students, the email for admins.
+// origin is the node that made the change, createdAt the time it was appended on that node.
+public record ChangeEvent(long sequence, String entityType, long entityId, String changeType, String payload,
+                          String origin, Instant createdAt) {
+}
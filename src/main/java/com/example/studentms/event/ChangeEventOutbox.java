@@ -0,0 +1,205 @@
+package com.example.studentms.event;
+
+import com.example.studentms.dto.StudentDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Transactional outbox of committed changes (the change_events table, see V5__change_events.sql)
+// Writes append their events inside their own transaction; the rows are only inserted right before the
+// commit, together with the reservation of their sequence numbers, so an event exists exactly when its
+// change was committed. The counter row stays locked until the commit, which orders the writing
+// transactions: events become visible in sequence order and without gaps, and a reader can always
+// continue after the last sequence number it saw. Every node reads the table (CacheSynchronizationService),
+// so no message broker is needed; the student events are also the change feed (StudentChangeFeedService).
+@Component
+public class ChangeEventOutbox {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeEventOutbox.class);
+
+    public static final String STUDENT = "student";
+    public static final String ADMIN = "admin";
+
+    // Payload of a student event: the student before and after the change (see StudentChangedEvent)
+    public record StudentChange(StudentDTO before, StudentDTO after) {}
+
+    private static final String SELECT = "SELECT sequence_number, entity_type, entity_id, change_type, payload, "
+            + "origin, created_at FROM change_events ";
+
+    private static final RowMapper<ChangeEvent> ROW_MAPPER = (rs, rowNum) -> new ChangeEvent(
+            rs.getLong("sequence_number"), rs.getString("entity_type"), rs.getLong("entity_id"),
+            rs.getString("change_type"), rs.getString("payload"), rs.getString("origin"),
+            rs.getTimestamp("created_at").toInstant());
+
+    // Identifies the events of this process, which it has already applied to its own caches
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Duration retention;
+
+    @Autowired
+    public ChangeEventOutbox(JdbcTemplate jdbcTemplate, EntityManager entityManager, ObjectMapper objectMapper,
+                             @Value("${studentms.change-events.retention}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.retention = retention;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // Synchronous, so the event joins the transaction of the write that published it
+    @EventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        append(STUDENT, event.getStudentId(), event.getChangeType().name(),
+                toJson(new StudentChange(event.getBefore(), event.getAfter())), event);
+    }
+
+    public void appendAdminCreated(long adminId, String email) {
+        append(ADMIN, adminId, StudentChangedEvent.ChangeType.CREATED.name(), toJson(Map.of("email", email)), null);
+    }
+
+    // Events of the current transaction are written when it commits and dropped when it rolls back;
+    // the student event they were made from (if any) gets their sequence number
+    private void append(String entityType, long entityId, String changeType, String payload, StudentChangedEvent source) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Change events can only be appended inside a transaction");
+        }
+        PendingEvents pending = (PendingEvents) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvents();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.events.add(new ChangeEvent(0, entityType, entityId, changeType, payload, nodeId, Instant.now()));
+        pending.sources.add(source);
+    }
+
+    // Up to limit events after the given sequence number, in sequence order
+    public List<ChangeEvent> findAfter(long sequence, int limit) {
+        return jdbcTemplate.query(SELECT + "WHERE sequence_number > ? ORDER BY sequence_number LIMIT ?",
+                ROW_MAPPER, sequence, limit);
+    }
+
+    // Up to limit events of one entity type after the given sequence number, up to another one, in sequence order
+    public List<ChangeEvent> findAfter(String entityType, long sequence, long upTo, int limit) {
+        return jdbcTemplate.query(SELECT + "WHERE sequence_number > ? AND sequence_number <= ? AND entity_type = ? "
+                + "ORDER BY sequence_number LIMIT ?", ROW_MAPPER, sequence, upTo, entityType, limit);
+    }
+
+    // Sequence number of the oldest event not pruned yet, null when there is none
+    public Long oldestSequence() {
+        return jdbcTemplate.queryForObject("SELECT MIN(sequence_number) FROM change_events", Long.class);
+    }
+
+    // Sequence number of the last committed event (0 before the first one)
+    public long latestSequence() {
+        return jdbcTemplate.queryForObject("SELECT last_value FROM change_event_sequence WHERE id = 1", Long.class);
+    }
+
+    public StudentChangedEvent readStudentChange(ChangeEvent event) {
+        StudentChange change = fromJson(event.payload(), StudentChange.class);
+        StudentChangedEvent studentChange = switch (StudentChangedEvent.ChangeType.valueOf(event.changeType())) {
+            case CREATED -> StudentChangedEvent.created(change.after());
+            case UPDATED -> StudentChangedEvent.updated(change.before(), change.after());
+            case DELETED -> StudentChangedEvent.deleted(change.before());
+        };
+        studentChange.setSequence(event.sequence());
+        return studentChange;
+    }
+
+    public String readAdminEmail(ChangeEvent event) {
+        return fromJson(event.payload(), Map.class).get("email").toString();
+    }
+
+    // Pruned by sequence number, up to the last expired event, so the remaining events never have a gap
+    // (a long transaction can commit an event older than the one before it)
+    @Scheduled(initialDelayString = "${studentms.change-events.prune-interval}",
+               fixedDelayString = "${studentms.change-events.prune-interval}")
+    public void pruneExpired() {
+        Long lastExpired = jdbcTemplate.queryForObject(
+                "SELECT MAX(sequence_number) FROM change_events WHERE created_at < ?", Long.class,
+                Timestamp.from(Instant.now().minus(retention)));
+        if (lastExpired == null) {
+            return;
+        }
+        int pruned = jdbcTemplate.update("DELETE FROM change_events WHERE sequence_number <= ?", lastExpired);
+        if (pruned > 0) {
+            logger.info("Pruned {} change events older than {}", pruned, retention);
+        }
+    }
+
+    private void write(List<ChangeEvent> events, List<StudentChangedEvent> sources) {
+        // Flush the entity changes first, so their row locks are always taken before the counter's
+        // (a delete is otherwise only flushed at commit, after this synchronization)
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE change_event_sequence SET last_value = last_value + ? WHERE id = 1", events.size());
+        long first = latestSequence() - events.size() + 1;
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            ChangeEvent event = events.get(i);
+            rows.add(new Object[] {first + i, event.entityType(), event.entityId(), event.changeType(),
+                    event.payload(), event.origin(), Timestamp.from(event.createdAt())});
+            if (sources.get(i) != null) {
+                sources.get(i).setSequence(first + i);
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO change_events (sequence_number, entity_type, entity_id, change_type, "
+                + "payload, origin, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize change event payload", e);
+        }
+    }
+
+    private <T> T fromJson(String payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read change event payload", e);
+        }
+    }
+
+    private final class PendingEvents implements TransactionSynchronization {
+
+        private final List<ChangeEvent> events = new ArrayList<>();
+        private final List<StudentChangedEvent> sources = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            write(events, sources);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ChangeEventOutbox.this);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.studentms.event;
+
+import com.example.studentms.dto.StudentDTO;
+
+// Published by StudentServiceImpl whenever a student is created, updated or deleted
+// Carries the student as it was before and after the change, so listeners can maintain
+// derived in-memory state (statistics, indexes) incrementally.
+// "before" is null for a creation and "after" is null for a deletion.
+// The outbox sequence number is set once the change is committed (see ChangeEventOutbox), so it is known
+// to the after-commit listeners and to the events read back from the outbox; 0 where it is not.
+public class StudentChangedEvent {
+
+    public enum ChangeType { CREATED, UPDATED, DELETED }
+
+    private final ChangeType changeType;
+    private final StudentDTO before;
+    private final StudentDTO after;
+    private volatile long sequence;
+
+    private StudentChangedEvent(ChangeType changeType, StudentDTO before, StudentDTO after) {
+        this.changeType = changeType;
+        this.before = before;
+        this.after = after;
+    }
+
+    public static StudentChangedEvent created(StudentDTO after) {
+        return new StudentChangedEvent(ChangeType.CREATED, null, after);
+    }
+
+    public static StudentChangedEvent updated(StudentDTO before, StudentDTO after) {
+        return new StudentChangedEvent(ChangeType.UPDATED, before, after);
+    }
+
+    public static StudentChangedEvent deleted(StudentDTO before) {
+        return new StudentChangedEvent(ChangeType.DELETED, before, null);
+    }
+
+    public ChangeType getChangeType() { return changeType; }
+
+    public StudentDTO getBefore() { return before; }
+
+    public StudentDTO getAfter() { return after; }
+
+    public long getSequence() { return sequence; }
+
+    public void setSequence(long sequence) { this.sequence = sequence; }
+
+    public Long getStudentId() {
+        return after != null ? after.getStudentId() : before.getStudentId();
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.studentms.exception;
+
+// The changes after the requested sequence number were already pruned from the outbox
+public class ChangeFeedExpiredException extends RuntimeException {
+    public ChangeFeedExpiredException(String message) {
+        super(message);
+    }
+}
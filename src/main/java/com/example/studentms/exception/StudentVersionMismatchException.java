@@ -0,0 +1,16 @@
+package com.example.studentms.exception;
+
+// The client updated a student from a stale copy (its If-Match version is no longer the current one)
+public class StudentVersionMismatchException extends RuntimeException {
+
+    private final Long currentVersion;
+
+    public StudentVersionMismatchException(String message, Long currentVersion) {
+        super(message);
+        this.currentVersion = currentVersion;
+    }
+
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.studentms.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+// AsyncAppender that only sheds DEBUG and TRACE events when its queue is nearly full
+// The stock appender also discards INFO once less than discardingThreshold slots are left;
+// here INFO and above are always queued (blocking the caller only if the queue is completely full).
+public class DebugDiscardingAsyncAppender extends AsyncAppender {
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        return event.getLevel().toInt() <= Level.DEBUG_INT;
+    }
+}
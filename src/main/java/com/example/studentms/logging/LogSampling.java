@@ -0,0 +1,13 @@
+package com.example.studentms.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+// Marker for log lines of high-volume read endpoints
+// Every such line is kept by default; the prod logging profile keeps only one in N of them (SamplingTurboFilter).
+public final class LogSampling {
+
+    public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+
+    private LogSampling() {}
+}
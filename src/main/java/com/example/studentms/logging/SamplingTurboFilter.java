@@ -0,0 +1,42 @@
+package com.example.studentms.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Keeps one in "every" INFO (or lower) events carrying the SAMPLED marker and denies the rest
+// Turbo filters run before a logging event is created, so dropped lines cost one counter increment.
+// WARN and ERROR lines are never sampled.
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final AtomicLong counter = new AtomicLong();
+
+    private int every = 100;
+
+    public void setEvery(int every) {
+        this.every = every;
+    }
+
+    @Override
+    public void start() {
+        if (every < 1) {
+            addError("every must be at least 1 for " + getName());
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format is null for isXxxEnabled() checks, which must not consume a sample
+        if (marker == null || level == null || format == null || level.isGreaterOrEqual(Level.WARN)
+                || !marker.contains(LogSampling.SAMPLED)) {
+            return FilterReply.NEUTRAL;
+        }
+        return counter.getAndIncrement() % every == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.studentms.metrics;
+
+import com.example.studentms.event.StudentChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// Business metrics published next to the actuator ones (scraped from /actuator/prometheus)
+// - studentms.students.changes{type}: committed creations, updates and deletions, counted from StudentChangedEvents
+// - studentms.admin.logins{outcome}: successful, failed and rejected (hashing pool saturated) logins
+// - studentms.students.returned{endpoint}: number of students in each list response
+// - studentms.students.not.modified{endpoint}: conditional GETs answered with 304 Not Modified
+@Component
+public class StudentMetrics {
+
+    public enum LoginOutcome { SUCCESS, FAILURE, REJECTED }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<StudentChangedEvent.ChangeType, Counter> changes = new EnumMap<>(StudentChangedEvent.ChangeType.class);
+    private final Map<LoginOutcome, Counter> logins = new EnumMap<>(LoginOutcome.class);
+
+    @Autowired
+    public StudentMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        // Registered up front so every series is exported (at 0) before its first event
+        for (StudentChangedEvent.ChangeType type : StudentChangedEvent.ChangeType.values()) {
+            changes.put(type, Counter.builder("studentms.students.changes")
+                    .description("Committed student changes")
+                    .tag("type", type.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        for (LoginOutcome outcome : LoginOutcome.values()) {
+            logins.put(outcome, Counter.builder("studentms.admin.logins")
+                    .description("Admin login attempts")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        changes.get(event.getChangeType()).increment();
+    }
+
+    public void recordLogin(LoginOutcome outcome) {
+        logins.get(outcome).increment();
+    }
+
+    public void recordNotModified(String endpoint) {
+        Counter.builder("studentms.students.not.modified")
+                .description("Conditional reads answered without a body")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordStudentsReturned(String endpoint, int count) {
+        // The registry hands back the already registered summary for a known endpoint tag
+        DistributionSummary.builder("studentms.students.returned")
+                .description("Students returned per list response")
+                .baseUnit("students")
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(1_000_000.0)
+                .register(meterRegistry)
+                .record(count);
+    }
+}
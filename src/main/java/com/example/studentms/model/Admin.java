@@ -1,10 +1,18 @@
 package com.example.studentms.model;
 
+import com.example.studentms.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
+// Cached in the Hibernate second-level cache by ID and by email (see HibernateCacheConfig)
 @Entity
 @Table(name = "admins")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.ADMIN_REGION)
+@NaturalIdCache(region = HibernateCacheConfig.ADMIN_EMAIL_REGION)
 public class Admin {
     
     @Id
@@ -13,9 +21,11 @@ public class Admin {
     
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
+    @NaturalId
     @Column(unique = true, nullable = false)
     private String email;
     
+    // PBKDF2 hash from PasswordHasher; rows created before hashing hold plaintext until the next login upgrades them
     @NotBlank(message = "Password is required")
     @Column(nullable = false)
     private String password;
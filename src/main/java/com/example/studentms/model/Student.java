@@ -4,8 +4,15 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 
+import com.example.studentms.config.HibernateCacheConfig;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 
@@ -13,12 +20,24 @@ import org.hibernate.annotations.UpdateTimestamp;
 // This class maps to the 'students' table in the database
 // It contains fields for student details and uses JPA annotations for ORM mapping
 // It also includes validation annotations to ensure data integrity
+// Updates only write the columns that changed (plus version and last_modified_date)
+// Cached in the Hibernate second-level cache by ID and by email (see HibernateCacheConfig)
 @Entity
-@Table(name = "students")
+@DynamicUpdate
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.STUDENT_REGION)
+@NaturalIdCache(region = HibernateCacheConfig.STUDENT_EMAIL_REGION)
+@Table(name = "students", indexes = {
+    @Index(name = "idx_students_course_key_age", columnList = "course_key, age"),
+    @Index(name = "idx_students_age", columnList = "age"),
+    @Index(name = "idx_students_name_key", columnList = "last_name_key, first_name_key")
+})
 public class Student {
     
+    // Pooled sequence (a students_seq table on MySQL) instead of IDENTITY,
+    // so Hibernate can batch inserts and hand out IDs without a round-trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) 
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "student_seq")
+    @SequenceGenerator(name = "student_seq", sequenceName = "students_seq", allocationSize = 50)
     @Column(name = "student_id") 
     private Long studentId;
 
@@ -34,6 +53,7 @@ public class Student {
 
     @NotBlank(message = "Email address is required")
     @Email(message = "Email address should be valid")
+    @NaturalId(mutable = true)
     @Column(name = "email", nullable = false, unique = true)
     private String email;
 
@@ -48,6 +68,17 @@ public class Student {
     @Column(name = "age", nullable = false)
     private Integer age;
 
+    // Lower-cased copies of course and names for indexed case-insensitive lookups,
+    // kept in sync by the setters (see V3__student_query_indexes.sql)
+    @Column(name = "course_key", nullable = false)
+    private String courseKey;
+
+    @Column(name = "first_name_key", nullable = false)
+    private String firstNameKey;
+
+    @Column(name = "last_name_key", nullable = false)
+    private String lastNameKey;
+
     @CreationTimestamp
     @Column(name = "registration_date", nullable = false, updatable = false)
     private LocalDateTime registrationDate;
@@ -56,32 +87,52 @@ public class Student {
     @Column(name = "last_modified_date", nullable = false)
     private LocalDateTime lastModifiedDate;
 
+    // Optimistic locking: every update checks and increments it, so a concurrent change makes the
+    // UPDATE match no row instead of being silently overwritten (see V4__student_version.sql)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // Constructors
     public Student() {}
 
     public Student(String firstName, String lastName, String email, String course, Integer age) {
-        this.firstName = firstName;
-        this.lastName = lastName;
+        setFirstName(firstName);
+        setLastName(lastName);
         this.email = email;
-        this.course = course;
+        setCourse(course);
         this.age = age;
     }
 
+    // Normalized form used for the *_key columns and every case-insensitive lookup
+    public static String normalizeKey(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
     // Getters and Setters
     public Long getStudentId() { return studentId; }
     public void setStudentId(Long studentId) { this.studentId = studentId; }
 
     public String getFirstName() { return firstName; }
-    public void setFirstName(String firstName) { this.firstName = firstName; }
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+        this.firstNameKey = normalizeKey(firstName);
+    }
 
     public String getLastName() { return lastName; }
-    public void setLastName(String lastName) { this.lastName = lastName; }
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+        this.lastNameKey = normalizeKey(lastName);
+    }
 
     public String getEmail() { return email; }
     public void setEmail(String email) { this.email = email; }
 
     public String getCourse() { return course; }
-    public void setCourse(String course) { this.course = course; }
+    public void setCourse(String course) {
+        this.course = course;
+        this.courseKey = normalizeKey(course);
+    }
 
     public Integer getAge() { return age; }
     public void setAge(Integer age) { this.age = age; }
@@ -92,6 +143,9 @@ public class Student {
     public LocalDateTime getLastModifiedDate() { return lastModifiedDate; }
     public void setLastModifiedDate(LocalDateTime lastModifiedDate) { this.lastModifiedDate = lastModifiedDate; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     // Helper methods
     public String getFullName() {
         return firstName + " " + lastName;
@@ -108,6 +162,7 @@ public class Student {
                 ", age=" + age +
                 ", registrationDate=" + registrationDate +
                 ", lastModifiedDate=" + lastModifiedDate +
+                ", version=" + version +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.example.studentms.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+// Read-only R2DBC mapping of the students table, used by the reactive runtime (see ReactiveStudentRepository)
+// Student remains the JPA entity that owns all writes; columns map by the snake_case naming convention.
+@Table("students")
+public record StudentRow(@Id Long studentId, String firstName, String lastName, String email, String course,
+                         Integer age, LocalDateTime registrationDate, LocalDateTime lastModifiedDate, Long version) {
+}
@@ -0,0 +1,14 @@
+package com.example.studentms.repository;
+
+import com.example.studentms.model.Admin;
+
+import java.util.Optional;
+
+// Admin lookups by email through Hibernate's natural-id API, so they can be answered from the second-level
+// cache (email to ID, then the admin by ID) instead of always querying the admins table
+public interface AdminEmailLookup {
+
+    Optional<Admin> findByEmail(String email);
+
+    boolean existsByEmail(String email);
+}
@@ -0,0 +1,27 @@
+package com.example.studentms.repository;
+
+import com.example.studentms.model.Admin;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+class AdminEmailLookupImpl implements AdminEmailLookup {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Admin> findByEmail(String email) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Admin.class).loadOptional(email);
+    }
+
+    // Only resolves the ID (from the natural-id cache when possible), without loading the admin
+    @Override
+    public boolean existsByEmail(String email) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Admin.class).getReference(email) != null;
+    }
+}
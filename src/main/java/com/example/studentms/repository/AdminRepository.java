@@ -4,12 +4,7 @@ import com.example.studentms.model.Admin;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-
+// findByEmail and existsByEmail come from AdminEmailLookup (natural-id lookups)
 @Repository
-public interface AdminRepository extends JpaRepository<Admin, Long> {
-    
-    Optional<Admin> findByEmail(String email);
-    
-    boolean existsByEmail(String email);
+public interface AdminRepository extends JpaRepository<Admin, Long>, AdminEmailLookup {
 }
\ No newline at end of file
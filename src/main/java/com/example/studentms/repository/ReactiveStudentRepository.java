@@ -0,0 +1,39 @@
+package com.example.studentms.repository;
+
+import com.example.studentms.model.StudentRow;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Non-blocking reads of the students table for the reactive runtime (reactive profile only)
+// Same predicates and indexes as the StudentRepository DTO queries; rows are emitted as they are demanded.
+@Repository
+public interface ReactiveStudentRepository extends R2dbcRepository<StudentRow, Long> {
+    
+    String SELECT_ROW = "SELECT student_id, first_name, last_name, email, course, age, registration_date, "
+            + "last_modified_date, version FROM students ";
+    
+    // All students, in ID order
+    Flux<StudentRow> findAllByOrderByStudentId();
+    
+    // Keyset pagination: next students after the given ID, in ID order
+    @Query(SELECT_ROW + "WHERE student_id > :studentId ORDER BY student_id LIMIT :limit")
+    Flux<StudentRow> findAfter(@Param("studentId") Long studentId, @Param("limit") int limit);
+    
+    // By course, through the lower-cased course_key column (callers pass Student.normalizeKey(course))
+    @Query(SELECT_ROW + "WHERE course_key = :courseKey ORDER BY student_id")
+    Flux<StudentRow> findByCourseKey(@Param("courseKey") String courseKey);
+    
+    Flux<StudentRow> findByAgeBetweenOrderByStudentId(Integer minAge, Integer maxAge);
+    
+    @Query("SELECT DISTINCT course FROM students ORDER BY course")
+    Flux<String> findAllDistinctCourses();
+    
+    @Query("SELECT COUNT(*) FROM students WHERE course_key = :courseKey")
+    Mono<Long> countByCourseKey(@Param("courseKey") String courseKey);
+    
+    Mono<Boolean> existsByEmail(String email);
+}
@@ -0,0 +1,11 @@
+package com.example.studentms.repository;
+
+import com.example.studentms.model.Student;
+
+import java.util.Optional;
+
+// Student lookup by email through Hibernate's natural-id API (second-level cache first, see AdminEmailLookup)
+public interface StudentEmailLookup {
+
+    Optional<Student> findByEmail(String email);
+}
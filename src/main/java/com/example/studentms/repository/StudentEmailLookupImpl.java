@@ -0,0 +1,32 @@
+package com.example.studentms.repository;
+
+import com.example.studentms.model.Student;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+class StudentEmailLookupImpl implements StudentEmailLookup {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Student emails can change, and Hibernate only re-maps the exact old value. On a case-insensitive collation
+    // a lookup in another case is cached under that spelling too, so a student found under an email it no
+    // longer has is checked against the table.
+    @Override
+    public Optional<Student> findByEmail(String email) {
+        Optional<Student> student = entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Student.class).loadOptional(email);
+        if (student.isEmpty() || student.get().getEmail().equalsIgnoreCase(email)) {
+            return student;
+        }
+        return entityManager.createQuery("SELECT s FROM Student s WHERE s.email = :email", Student.class)
+                .setParameter("email", email)
+                .getResultStream()
+                .findFirst();
+    }
+}
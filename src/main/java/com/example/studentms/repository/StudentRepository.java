@@ -1,41 +1,135 @@
 package com.example.studentms.repository;
 
+import com.example.studentms.config.HibernateCacheConfig;
+import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.dto.StudentListVersionDTO;
 import com.example.studentms.model.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Long> {
+public interface StudentRepository extends JpaRepository<Student, Long>, StudentEmailLookup {
     
-    // Find by email
-    Optional<Student> findByEmail(String email);
+    // Constructor expression used by the read-only queries below, so rows are mapped
+    // straight to StudentDTO without managed entities or dirty-checking snapshots
+    String SELECT_DTO = "SELECT new com.example.studentms.dto.StudentDTO(s.studentId, s.firstName, s.lastName, "
+            + "s.email, s.course, s.age, s.registrationDate, s.lastModifiedDate, s.version) FROM Student s ";
+    
+    // findByEmail comes from StudentEmailLookup (natural-id lookup)
     
     // Check if email exists
     boolean existsByEmail(String email);
     
+    // Check if email exists without flushing pending changes first, so it can tell why a flush just failed
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("SELECT COUNT(s) > 0 FROM Student s WHERE s.email = :email")
+    boolean existsByEmailWithoutFlush(@Param("email") String email);
+    
+    // Which of the given emails are already taken (set-based check for bulk imports)
+    @Query("SELECT s.email FROM Student s WHERE s.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
+    // Case-insensitive lookups go through the indexed, lower-cased *_key columns
+    List<Student> findByCourseKey(String courseKey);
+    
+    List<Student> findByFirstNameKeyAndLastNameKey(String firstNameKey, String lastNameKey);
+    
+    List<Student> findByCourseKeyAndAgeGreaterThanEqual(String courseKey, Integer minAge);
+    
     // Find by course
-    List<Student> findByCourseIgnoreCase(String course);
+    default List<Student> findByCourseIgnoreCase(String course) {
+        return findByCourseKey(Student.normalizeKey(course));
+    }
     
     // Find by age range
     List<Student> findByAgeBetween(Integer minAge, Integer maxAge);
     
     // Find by first name and last name (case insensitive)
-    List<Student> findByFirstNameIgnoreCaseAndLastNameIgnoreCase(String firstName, String lastName);
+    default List<Student> findByFirstNameIgnoreCaseAndLastNameIgnoreCase(String firstName, String lastName) {
+        return findByFirstNameKeyAndLastNameKey(Student.normalizeKey(firstName), Student.normalizeKey(lastName));
+    }
     
-    // Custom query to find students by course and age
-    @Query("SELECT s FROM Student s WHERE s.course = :course AND s.age >= :minAge")
-    List<Student> findStudentsByCourseAndMinAge(@Param("course") String course, @Param("minAge") Integer minAge);
+    // Find students by course (case insensitive) and minimum age
+    default List<Student> findStudentsByCourseAndMinAge(String course, Integer minAge) {
+        return findByCourseKeyAndAgeGreaterThanEqual(Student.normalizeKey(course), minAge);
+    }
     
-    // Find all courses (distinct)
+    // Find all courses (distinct), from the query cache until the students table is written
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.COURSE_NAMES_REGION)
+    })
     @Query("SELECT DISTINCT s.course FROM Student s ORDER BY s.course")
     List<String> findAllDistinctCourses();
     
-    // Count students by course
-    @Query("SELECT COUNT(s) FROM Student s WHERE s.course = :course")
-    Long countStudentsByCourse(@Param("course") String course);
+    // DTO projection of a single student
+    @Query(SELECT_DTO + "WHERE s.studentId = :studentId")
+    Optional<StudentDTO> findDTOById(@Param("studentId") Long studentId);
+    
+    // DTO projection of the given students (one page of search results), in no particular order
+    @Query(SELECT_DTO + "WHERE s.studentId IN :studentIds")
+    List<StudentDTO> findDTOsByIds(@Param("studentIds") Collection<Long> studentIds);
+    
+    // DTO projection of all students
+    @Query(SELECT_DTO + "ORDER BY s.studentId")
+    List<StudentDTO> findAllDTOs();
+    
+    // DTO projection by course (case insensitive)
+    @Query(SELECT_DTO + "WHERE s.courseKey = :courseKey")
+    List<StudentDTO> findDTOsByCourseKey(@Param("courseKey") String courseKey);
+    
+    default List<StudentDTO> findDTOsByCourse(String course) {
+        return findDTOsByCourseKey(Student.normalizeKey(course));
+    }
+    
+    // Version of the course listing above, from the course_key index without loading the students
+    @Query("SELECT new com.example.studentms.dto.StudentListVersionDTO(COUNT(s), SUM(s.version), "
+            + "MAX(s.lastModifiedDate)) FROM Student s WHERE s.courseKey = :courseKey")
+    StudentListVersionDTO findListVersionByCourseKey(@Param("courseKey") String courseKey);
+    
+    default StudentListVersionDTO findListVersionByCourse(String course) {
+        return findListVersionByCourseKey(Student.normalizeKey(course));
+    }
+    
+    // DTO projection by age range
+    @Query(SELECT_DTO + "WHERE s.age BETWEEN :minAge AND :maxAge")
+    List<StudentDTO> findDTOsByAgeBetween(@Param("minAge") Integer minAge, @Param("maxAge") Integer maxAge);
+    
+    // Keyset pagination: next students after the given ID, in ID order
+    @Query(SELECT_DTO + "WHERE s.studentId > :studentId ORDER BY s.studentId")
+    List<StudentDTO> findDTOsAfter(@Param("studentId") Long studentId, Pageable pageable);
+    
+    // Forward-only scan of the whole table for exports
+    // (on MySQL the fetch size only takes effect with useCursorFetch=true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(SELECT_DTO + "ORDER BY s.studentId")
+    Stream<StudentDTO> streamAllDTOs();
+    
+    // Every email, scanned once at startup to fill the in-memory email filter
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT s.email FROM Student s")
+    Stream<String> streamAllEmails();
+    
+    // Number of students per (course, age), used to build the in-memory course statistics
+    @Query("SELECT s.course, s.age, COUNT(s) FROM Student s GROUP BY s.course, s.age")
+    List<Object[]> countStudentsByCourseAndAge();
+    
+    // Count students by course (case insensitive, like the course listing)
+    @Query("SELECT COUNT(s) FROM Student s WHERE s.courseKey = :courseKey")
+    Long countStudentsByCourseKey(@Param("courseKey") String courseKey);
+    
+    default Long countStudentsByCourse(String course) {
+        return countStudentsByCourseKey(Student.normalizeKey(course));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.example.studentms.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.List;
+
+// Authenticates admin requests from the bearer token instead of an HttpSession
+// Protected requests without a valid token are rejected with 401 before they reach a controller;
+// otherwise the admin email is exposed to handlers as the "adminEmail" request attribute.
+@Component
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class AdminAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminAuthenticationFilter.class);
+
+    public static final String ADMIN_EMAIL = "adminEmail";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final List<String> PROTECTED_PATHS = List.of(
+            "/api/students", "/api/admin/cache", "/api/admin/check", "/actuator/metrics", "/actuator/prometheus");
+
+    private final AdminTokenService tokenService;
+
+    public AdminAuthenticationFilter(AdminTokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // CORS preflight requests carry no credentials
+        if (HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return true;
+        }
+        // Decoded, without ";" parameters and with "//" collapsed, as the handler mapping resolves it:
+        // the raw URI would let "/actuator/prometheus;x=y" or "//actuator/metrics" through unauthenticated
+        return !isProtected(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+    }
+
+    // Whether a decoded, normalized path (without the context path) requires an admin token;
+    // shared with AdminAuthenticationWebFilter
+    static boolean isProtected(String path) {
+        for (String protectedPath : PROTECTED_PATHS) {
+            if (path.equals(protectedPath) || path.startsWith(protectedPath + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        String adminEmail = null;
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            adminEmail = tokenService.verifyToken(authorization.substring(BEARER_PREFIX.length()).trim());
+        }
+
+        if (adminEmail == null) {
+            logger.warn("Unauthorized access attempt to {} - missing or invalid admin token", request.getRequestURI());
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Admin authentication required\"}");
+            return;
+        }
+
+        request.setAttribute(ADMIN_EMAIL, adminEmail);
+        chain.doFilter(request, response);
+    }
+}
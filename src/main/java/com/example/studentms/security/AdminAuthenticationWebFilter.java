@@ -0,0 +1,80 @@
+package com.example.studentms.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.example.studentms.security.AdminAuthenticationFilter.ADMIN_EMAIL;
+
+// AdminAuthenticationFilter for the reactive runtime: the same protected paths and bearer tokens,
+// with the admin email exposed to handlers as the "adminEmail" exchange attribute
+@Component
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class AdminAuthenticationWebFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminAuthenticationWebFilter.class);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final byte[] UNAUTHORIZED_BODY = "{\"error\":\"Admin authentication required\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final AdminTokenService tokenService;
+
+    public AdminAuthenticationWebFilter(AdminTokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        // CORS preflight requests carry no credentials
+        if (HttpMethod.OPTIONS.equals(request.getMethod())
+                || !AdminAuthenticationFilter.isProtected(normalizedPath(request))) {
+            return chain.filter(exchange);
+        }
+
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        String adminEmail = null;
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            adminEmail = tokenService.verifyToken(authorization.substring(BEARER_PREFIX.length()).trim());
+        }
+
+        if (adminEmail == null) {
+            logger.warn("Unauthorized access attempt to {} - missing or invalid admin token", request.getPath());
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(UNAUTHORIZED_BODY)));
+        }
+
+        exchange.getAttributes().put(ADMIN_EMAIL, adminEmail);
+        return chain.filter(exchange);
+    }
+
+    // Decoded path segments without ";" parameters or empty segments, the way PathPattern matching sees them
+    private static String normalizedPath(ServerHttpRequest request) {
+        StringBuilder path = new StringBuilder();
+        for (PathContainer.Element element : request.getPath().pathWithinApplication().elements()) {
+            if (element instanceof PathContainer.PathSegment segment && !segment.valueToMatch().isEmpty()) {
+                path.append('/').append(segment.valueToMatch());
+            }
+        }
+        return path.toString();
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.studentms.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+// Issues and verifies self-contained admin tokens, so no node needs a session store
+// A token is base64url("<email>|<expiry epoch seconds>") + "." + base64url(HMAC-SHA256 of that payload).
+// The first configured secret signs new tokens; every configured secret is accepted, which lets a key be
+// rotated by prepending the new one and dropping the old one once its tokens have expired.
+// All nodes behind the load balancer must share the same secrets.
+@Service
+public class AdminTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminTokenService.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final List<Mac> keys = new ArrayList<>();
+    private final Duration tokenTtl;
+    private final Clock clock;
+
+    @Autowired
+    public AdminTokenService(@Value("${studentms.auth.token-secrets:}") List<String> secrets,
+                             @Value("${studentms.auth.token-ttl:PT8H}") Duration tokenTtl) {
+        this(secrets, tokenTtl, Clock.systemUTC());
+    }
+
+    AdminTokenService(List<String> secrets, Duration tokenTtl, Clock clock) {
+        this.tokenTtl = tokenTtl;
+        this.clock = clock;
+        for (String secret : secrets) {
+            if (!secret.isBlank()) {
+                keys.add(newMac(Base64.getDecoder().decode(secret.trim())));
+            }
+        }
+        if (keys.isEmpty()) {
+            logger.warn("No studentms.auth.token-secrets configured, using a random key: tokens will not survive "
+                    + "a restart or be accepted by other nodes");
+            byte[] secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            keys.add(newMac(secret));
+        }
+    }
+
+    public String issueToken(String adminEmail) {
+        long expiresAt = clock.instant().plus(tokenTtl).getEpochSecond();
+        byte[] payload = (adminEmail + "|" + expiresAt).getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(keys.get(0), payload));
+    }
+
+    public Duration getTokenTtl() {
+        return tokenTtl;
+    }
+
+    // Returns the admin email of a valid, unexpired token, or null
+    public String verifyToken(String token) {
+        int separator = token.indexOf('.');
+        if (separator <= 0) {
+            return null;
+        }
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(token.substring(0, separator));
+            signature = DECODER.decode(token.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        boolean signed = false;
+        for (Mac key : keys) {
+            if (MessageDigest.isEqual(sign(key, payload), signature)) {
+                signed = true;
+                break;
+            }
+        }
+        if (!signed) {
+            return null;
+        }
+
+        String claims = new String(payload, StandardCharsets.UTF_8);
+        int expirySeparator = claims.lastIndexOf('|');
+        if (expirySeparator <= 0) {
+            return null;
+        }
+        try {
+            long expiresAt = Long.parseLong(claims.substring(expirySeparator + 1));
+            if (clock.instant().getEpochSecond() >= expiresAt) {
+                return null;
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return claims.substring(0, expirySeparator);
+    }
+
+    // Mac instances are not thread-safe, every signature is computed on a clone of the keyed prototype
+    private static byte[] sign(Mac key, byte[] payload) {
+        try {
+            return ((Mac) key.clone()).doFinal(payload);
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(ALGORITHM + " implementation cannot be cloned", e);
+        }
+    }
+
+    private static Mac newMac(byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret, ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialize " + ALGORITHM, e);
+        }
+    }
+}
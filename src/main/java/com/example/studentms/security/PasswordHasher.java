@@ -0,0 +1,130 @@
+package com.example.studentms.security;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// PBKDF2-HMAC-SHA256 password hashes, stored as "pbkdf2-sha256$<iterations>$<salt>$<hash>" (base64)
+// The iteration count is the work factor: raising studentms.auth.password.iterations makes new hashes
+// slower to compute and marks existing ones for an upgrade at the next successful login. Stored values
+// without the prefix are legacy plaintext passwords, accepted until they are upgraded the same way.
+//
+// Hashing runs on a small pool of its own with a bounded queue, so a login storm waits there (and is
+// rejected with RejectedExecutionException once the queue is full) instead of pinning request threads.
+// The pool is deliberately not an Executor bean, which would replace Spring Boot's applicationTaskExecutor.
+@Component
+public class PasswordHasher {
+
+    private static final String PREFIX = "pbkdf2-sha256$";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+    private final int iterations;
+    private final ThreadPoolExecutor executor;
+    private final SecureRandom random = new SecureRandom();
+    // Checked when an account does not exist, so unknown emails cost as much as wrong passwords
+    private final String dummyHash;
+
+    @Autowired
+    public PasswordHasher(@Value("${studentms.auth.password.iterations}") int iterations,
+                          @Value("${studentms.auth.password.hashing-threads:0}") int threads,
+                          @Value("${studentms.auth.password.hashing-queue-capacity}") int queueCapacity) {
+        this.iterations = iterations;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.dummyHash = hashNow("dummy-password");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public CompletableFuture<String> hash(String password) {
+        return CompletableFuture.supplyAsync(() -> hashNow(password), executor);
+    }
+
+    // A null stored value (no such account) is checked against a dummy hash and never matches
+    public CompletableFuture<Boolean> matches(String password, String stored) {
+        return CompletableFuture.supplyAsync(() -> {
+            boolean matches = matchesNow(password, stored != null ? stored : dummyHash);
+            return stored != null && matches;
+        }, executor);
+    }
+
+    // Legacy plaintext and hashes made with a different work factor are replaced at the next login
+    public boolean needsRehash(String stored) {
+        return !stored.startsWith(PREFIX) || parseIterations(stored) != iterations;
+    }
+
+    private String hashNow(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        byte[] hash = pbkdf2(password, salt, iterations);
+        return PREFIX + iterations + "$" + ENCODER.encodeToString(salt) + "$" + ENCODER.encodeToString(hash);
+    }
+
+    private boolean matchesNow(String password, String stored) {
+        if (!stored.startsWith(PREFIX)) {
+            return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8),
+                    stored.getBytes(StandardCharsets.UTF_8));
+        }
+        String[] parts = stored.substring(PREFIX.length()).split("\\$");
+        if (parts.length != 3) {
+            return false;
+        }
+        try {
+            byte[] salt = DECODER.decode(parts[1]);
+            byte[] expected = DECODER.decode(parts[2]);
+            return MessageDigest.isEqual(pbkdf2(password, salt, Integer.parseInt(parts[0])), expected);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static int parseIterations(String stored) {
+        int end = stored.indexOf('$', PREFIX.length());
+        try {
+            return Integer.parseInt(stored.substring(PREFIX.length(), end));
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    private static byte[] pbkdf2(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot compute " + ALGORITHM, e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
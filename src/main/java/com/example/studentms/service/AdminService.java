@@ -1,29 +1,122 @@
 package com.example.studentms.service;
 
+import com.example.studentms.config.CacheConfig;
 import com.example.studentms.dto.AdminLoginDTO;
+import com.example.studentms.event.ChangeEventOutbox;
 import com.example.studentms.model.Admin;
 import com.example.studentms.repository.AdminRepository;
+import com.example.studentms.security.PasswordHasher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 public class AdminService {
     
+    private static final Logger logger = LoggerFactory.getLogger(AdminService.class);
+    
     @Autowired
     private AdminRepository adminRepository;
     
-    public boolean validateAdmin(AdminLoginDTO loginDTO) {
-        return adminRepository.findByEmail(loginDTO.getEmail())
-                .map(admin -> admin.getPassword().equals(loginDTO.getPassword()))
-                .orElse(false);
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Autowired
+    private PasswordHasher passwordHasher;
+    
+    @Autowired
+    private ChangeEventOutbox changeEventOutbox;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    // Completes on the password hashing pool; throws RejectedExecutionException when that pool is saturated
+    public CompletableFuture<Boolean> validateAdmin(AdminLoginDTO loginDTO) {
+        Admin admin = findAdmin(loginDTO.getEmail()).orElse(null);
+        String storedPassword = admin != null ? admin.getPassword() : null;
+        
+        CompletableFuture<Boolean> validation = passwordHasher.matches(loginDTO.getPassword(), storedPassword);
+        validation.thenAccept(valid -> {
+            if (valid && passwordHasher.needsRehash(storedPassword)) {
+                upgradePassword(admin, loginDTO.getPassword());
+            }
+        });
+        return validation;
     }
     
+    // The password is hashed before the transaction starts, so no connection is held through the key stretching;
+    // the email is checked again inside it for a concurrent create of the same admin.
+    // Other nodes drop their cached "no such admin" through the change event
     public Admin createAdmin(String email, String password) {
+        requireNewEmail(email);
+        String hash = hashPassword(password);
+        
+        Admin savedAdmin = new TransactionTemplate(transactionManager).execute(status -> {
+            requireNewEmail(email);
+            Admin saved = adminRepository.save(new Admin(email, hash));
+            changeEventOutbox.appendAdminCreated(saved.getId(), email);
+            return saved;
+        });
+        // Drop the cached "no such admin" left by earlier login attempts with this email
+        adminCache().evict(email);
+        return savedAdmin;
+    }
+    
+    private void requireNewEmail(String email) {
         if (adminRepository.existsByEmail(email)) {
             throw new RuntimeException("Admin with this email already exists");
         }
-        
-        Admin admin = new Admin(email, password);
-        return adminRepository.save(admin);
     }
-}
\ No newline at end of file
+    
+    // Re-hash a plaintext or outdated password with the current work factor, off the login's critical path.
+    // A copy is saved so the instance other threads may be reading from the cache is never modified.
+    private void upgradePassword(Admin admin, String password) {
+        try {
+            passwordHasher.hash(password).thenAccept(hash -> {
+                Admin upgraded = new Admin(admin.getEmail(), hash);
+                upgraded.setId(admin.getId());
+                adminCache().put(admin.getEmail(), adminRepository.save(upgraded));
+                logger.info("Upgraded password hash for admin: {}", admin.getEmail());
+            }).exceptionally(e -> {
+                logger.error("Failed to upgrade password hash for admin: {} - Error: {}", admin.getEmail(), e.getMessage());
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // Hashing pool saturated: the upgrade is retried at the next login
+            logger.warn("Deferred password hash upgrade for admin: {} - Error: {}", admin.getEmail(), e.getMessage());
+        }
+    }
+    
+    private String hashPassword(String password) {
+        try {
+            return passwordHasher.hash(password).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+    
+    // Admin records by email, unknown emails included (as null), so repeated logins don't query the admins table
+    private Optional<Admin> findAdmin(String email) {
+        Cache cache = adminCache();
+        Cache.ValueWrapper cached = cache.get(email);
+        if (cached != null) {
+            return Optional.ofNullable((Admin) cached.get());
+        }
+        Admin admin = adminRepository.findByEmail(email).orElse(null);
+        cache.put(email, admin);
+        return Optional.ofNullable(admin);
+    }
+    
+    private Cache adminCache() {
+        return cacheManager.getCache(CacheConfig.ADMINS);
+    }
+}
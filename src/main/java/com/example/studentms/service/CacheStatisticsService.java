@@ -0,0 +1,75 @@
+package com.example.studentms.service;
+
+import com.example.studentms.config.HibernateCacheConfig;
+import com.example.studentms.dto.CacheStatsDTO;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class CacheStatisticsService {
+
+    // Prefix of the Hibernate second-level cache regions in the statistics
+    static final String HIBERNATE_PREFIX = "hibernate.";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private javax.cache.CacheManager hibernateCacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public List<CacheStatsDTO> getCacheStatistics() {
+        List<CacheStatsDTO> statistics = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+                CacheStats stats = caffeine.stats();
+                statistics.add(new CacheStatsDTO(name, caffeine.estimatedSize(), stats.hitCount(),
+                        stats.missCount(), stats.hitRate(), stats.evictionCount()));
+            }
+        }
+        statistics.addAll(getHibernateRegionStatistics());
+        statistics.sort((a, b) -> a.getName().compareTo(b.getName()));
+        return statistics;
+    }
+
+    // Hits and misses as Hibernate counts them (an entry locked by a running write is a miss), size and
+    // evictions from the Caffeine cache behind the region
+    private List<CacheStatsDTO> getHibernateRegionStatistics() {
+        Statistics hibernateStatistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<CacheStatsDTO> statistics = new ArrayList<>();
+        for (String region : HibernateCacheConfig.REGIONS) {
+            javax.cache.Cache<?, ?> cache = hibernateCacheManager.getCache(region);
+            if (cache == null) {
+                continue;
+            }
+            long hits;
+            long misses;
+            if (region.equals(HibernateCacheConfig.UPDATE_TIMESTAMPS_REGION)) {
+                hits = hibernateStatistics.getUpdateTimestampsCacheHitCount();
+                misses = hibernateStatistics.getUpdateTimestampsCacheMissCount();
+            } else {
+                CacheRegionStatistics regionStatistics = hibernateStatistics.getCacheRegionStatistics(region);
+                hits = regionStatistics != null ? regionStatistics.getHitCount() : 0;
+                misses = regionStatistics != null ? regionStatistics.getMissCount() : 0;
+            }
+            com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine =
+                    cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+            statistics.add(new CacheStatsDTO(HIBERNATE_PREFIX + region, caffeine.estimatedSize(), hits, misses,
+                    hits + misses == 0 ? 1.0 : hits / (double) (hits + misses), caffeine.stats().evictionCount()));
+        }
+        return statistics;
+    }
+}
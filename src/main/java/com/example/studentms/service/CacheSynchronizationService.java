@@ -0,0 +1,243 @@
+package com.example.studentms.service;
+
+import com.example.studentms.config.CacheConfig;
+import com.example.studentms.config.HibernateCacheConfig;
+import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.event.ChangeEvent;
+import com.example.studentms.event.ChangeEventOutbox;
+import com.example.studentms.event.StudentChangedEvent;
+import com.example.studentms.model.Admin;
+import com.example.studentms.model.Student;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Keeps this node's local caches coherent with the writes of the other nodes
+// Polls the change_events outbox (see ChangeEventOutbox) and applies every event of another node, in
+// sequence order, to the Spring caches, the Hibernate second-level cache and the in-memory course
+// statistics, search index and email filter; this node's own events were applied when they were made.
+// A change committed on any node is therefore visible everywhere within about one poll interval. If no poll
+// has succeeded for longer than max-staleness (the outbox is unreadable, or a poll hangs), the caches are
+// cleared, and again at every check until polls succeed, so they never serve data older than that; the
+// in-memory structures are corrected by their own reconciliation. Polls and staleness checks run on a
+// scheduler of their own, apart from the shared @Scheduled jobs, and on two threads so a hung poll cannot
+// stop the check. The starting position is read once every bean is created, before the in-memory structures
+// are loaded (on ApplicationReadyEvent), so no event committed during those loads is missed; such events may be
+// applied twice instead, which the course statistics recognise by their sequence number and skip.
+//
+// Meters: studentms.cache.sync.lag (time from a change on another node to its application here),
+// studentms.cache.sync.events{origin} and studentms.cache.sync.poll.age (seconds since the last
+// successful poll, which bounds the staleness of this node).
+@Service
+public class CacheSynchronizationService implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheSynchronizationService.class);
+
+    private final ChangeEventOutbox outbox;
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CourseStatisticsService courseStatistics;
+    private final StudentSearchService studentSearch;
+    private final StudentEmailFilter emailFilter;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration maxStaleness;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Timer lag;
+    private final Counter localEvents;
+    private final Counter remoteEvents;
+
+    // Set before the polls are scheduled, then only touched by the poll task (never run concurrently);
+    // -1 if the outbox could not be read at startup, in which case the first poll starts at the latest event
+    private long cursor = -1;
+    private volatile Instant lastPoll = Instant.now();
+
+    @Autowired
+    public CacheSynchronizationService(ChangeEventOutbox outbox, CacheManager cacheManager,
+                                       EntityManagerFactory entityManagerFactory,
+                                       CourseStatisticsService courseStatistics, StudentSearchService studentSearch,
+                                       StudentEmailFilter emailFilter, MeterRegistry meterRegistry,
+                                       @Value("${studentms.cache-sync.batch-size}") int batchSize,
+                                       @Value("${studentms.cache-sync.poll-interval}") Duration pollInterval,
+                                       @Value("${studentms.cache-sync.max-staleness}") Duration maxStaleness) {
+        this.outbox = outbox;
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.courseStatistics = courseStatistics;
+        this.studentSearch = studentSearch;
+        this.emailFilter = emailFilter;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.maxStaleness = maxStaleness;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.scheduler = new ScheduledThreadPoolExecutor(2, runnable -> {
+            Thread thread = new Thread(runnable, "cache-sync-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.lag = Timer.builder("studentms.cache.sync.lag")
+                .description("Time from a change on another node to its application to the local caches")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(1))
+                .register(meterRegistry);
+        this.localEvents = Counter.builder("studentms.cache.sync.events")
+                .description("Change events read from the outbox")
+                .tag("origin", "local")
+                .register(meterRegistry);
+        this.remoteEvents = Counter.builder("studentms.cache.sync.events")
+                .description("Change events read from the outbox")
+                .tag("origin", "remote")
+                .register(meterRegistry);
+        Gauge.builder("studentms.cache.sync.poll.age", this,
+                        service -> Duration.between(service.lastPoll, Instant.now()).toMillis() / 1000.0)
+                .description("Time since the outbox was last read")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    // The caches start empty, so only later events matter
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            cursor = outbox.latestSequence();
+        } catch (DataAccessException e) {
+            logger.warn("Failed to read the latest change event at startup - Error: {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long interval = pollInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> runLogged(this::poll), 0, interval, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(() -> runLogged(this::checkStaleness), interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    public void poll() {
+        Instant started = Instant.now();
+        try {
+            if (cursor < 0) {
+                cursor = outbox.latestSequence();
+            }
+            List<ChangeEvent> events;
+            do {
+                events = outbox.findAfter(cursor, batchSize);
+                for (ChangeEvent event : events) {
+                    apply(event);
+                    cursor = event.sequence();
+                }
+            } while (events.size() == batchSize);
+            lastPoll = started;
+        } catch (DataAccessException e) {
+            logger.warn("Failed to read change events - Error: {}", e.getMessage());
+        }
+    }
+
+    // Based on the last successful poll only, so it also catches polls that never complete
+    public void checkStaleness() {
+        Instant last = lastPoll;
+        if (Duration.between(last, Instant.now()).compareTo(maxStaleness) > 0) {
+            logger.warn("Change events not read since {}, clearing local caches", last);
+            clearCaches();
+        }
+    }
+
+    // A periodic task that throws is never run again
+    private static void runLogged(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            logger.error("Cache synchronization task failed - Error: {}", e.getMessage(), e);
+        }
+    }
+
+    private void apply(ChangeEvent event) {
+        if (event.origin().equals(outbox.getNodeId())) {
+            localEvents.increment();
+            return;
+        }
+        try {
+            switch (event.entityType()) {
+                case ChangeEventOutbox.STUDENT -> applyStudentChange(outbox.readStudentChange(event));
+                case ChangeEventOutbox.ADMIN -> cache(CacheConfig.ADMINS).evict(outbox.readAdminEmail(event));
+                default -> throw new IllegalStateException("Unknown entity type: " + event.entityType());
+            }
+        } catch (IllegalStateException e) {
+            // Without knowing what changed, nothing cached can be trusted
+            logger.error("Cannot apply change event {}, clearing local caches - Error: {}", event.sequence(), e.getMessage());
+            clearCaches();
+        }
+        remoteEvents.increment();
+        lag.record(Math.max(0, Duration.between(event.createdAt(), Instant.now()).toNanos()), TimeUnit.NANOSECONDS);
+    }
+
+    private void applyStudentChange(StudentChangedEvent change) {
+        StudentDTO before = change.getBefore();
+        StudentDTO after = change.getAfter();
+        org.hibernate.Cache secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+
+        cache(CacheConfig.STUDENTS).evict(change.getStudentId());
+        secondLevelCache.evictEntityData(Student.class, change.getStudentId());
+        // Natural-id entries are keyed by email, so a removed or changed email means dropping them all
+        if (after == null || (before != null && !Objects.equals(before.getEmail(), after.getEmail()))) {
+            secondLevelCache.evictNaturalIdData(Student.class);
+        }
+        secondLevelCache.evictQueryRegion(HibernateCacheConfig.COURSE_NAMES_REGION);
+        if (before != null) {
+            cache(CacheConfig.STUDENTS_BY_COURSE).evict(CacheConfig.courseKey(before.getCourse()));
+        }
+        if (after != null) {
+            cache(CacheConfig.STUDENTS_BY_COURSE).evict(CacheConfig.courseKey(after.getCourse()));
+            emailFilter.add(after.getEmail());
+        }
+        courseStatistics.onStudentChanged(change);
+        studentSearch.onStudentChanged(change);
+    }
+
+    private void clearCaches() {
+        for (String name : cacheManager.getCacheNames()) {
+            cache(name).clear();
+        }
+        org.hibernate.Cache secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        secondLevelCache.evictEntityData(Student.class);
+        secondLevelCache.evictEntityData(Admin.class);
+        secondLevelCache.evictNaturalIdData();
+        secondLevelCache.evictQueryRegions();
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + name);
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,292 @@
+package com.example.studentms.service;
+
+import com.example.studentms.config.CacheConfig;
+import com.example.studentms.dto.CourseStatsDTO;
+import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.event.ChangeEventOutbox;
+import com.example.studentms.event.StudentChangedEvent;
+import com.example.studentms.repository.StudentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Per-course student counts and age statistics kept in memory
+// Built with one GROUP BY query once the application is ready, then updated from the
+// StudentChangedEvents of committed writes, so /courses and /course/{course}/count no longer
+// scan the students table. A periodic job recomputes the figures from the database,
+// logs any drift and replaces the in-memory state; changes that arrive while it queries are
+// replayed onto the recomputed figures before they replace the live ones. The figures are read in the
+// same snapshot as the outbox sequence, so a change whose sequence number they already include (delivered
+// late, or read back from the outbox by CacheSynchronizationService) is never counted twice.
+@Service
+public class CourseStatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseStatisticsService.class);
+
+    // Ages are validated to 16-100; anything outside is clamped into the histogram
+    private static final int MAX_AGE = 100;
+
+    private final StudentRepository studentRepository;
+    private final ChangeEventOutbox outbox;
+
+    private volatile Map<String, CourseCounter> courses = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    // Changes are applied under the read lock and the rebuilt map is swapped in under the write lock,
+    // so every change lands either in the replay buffer and the old map, or in the new map only
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Queue<StudentChangedEvent> replay;
+    // Outbox sequence number the current figures were loaded at; changes up to it are counted in them
+    private volatile long loadedSequence;
+
+    // Sorted course names are rebuilt lazily; a snapshot is only valid for the membership version it was built at
+    private final AtomicLong membershipVersion = new AtomicLong();
+    private volatile CourseNames sortedCourseNames = new CourseNames(-1, List.of());
+
+    @Autowired
+    public CourseStatisticsService(StudentRepository studentRepository, ChangeEventOutbox outbox) {
+        this.studentRepository = studentRepository;
+        this.outbox = outbox;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void initialize() {
+        rebuild();
+        logger.info("Course statistics initialized for {} courses", courses.size());
+    }
+
+    @Scheduled(initialDelayString = "${studentms.course-stats.reconcile-interval}",
+               fixedDelayString = "${studentms.course-stats.reconcile-interval}")
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void reconcile() {
+        Map<String, CourseCounter> previous = rebuild();
+        Map<String, CourseCounter> fresh = courses;
+        int drifted = 0;
+        for (String key : fresh.keySet()) {
+            CourseCounter current = previous.get(key);
+            if (current == null || !current.sameAs(fresh.get(key))) {
+                drifted++;
+            }
+        }
+        for (String key : previous.keySet()) {
+            if (!fresh.containsKey(key)) {
+                drifted++;
+            }
+        }
+        if (drifted > 0) {
+            logger.warn("Course statistics reconciled: {} courses differed from the database", drifted);
+        } else {
+            logger.debug("Course statistics reconciled: no drift across {} courses", fresh.size());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        StudentDTO before = event.getBefore();
+        StudentDTO after = event.getAfter();
+        if (before != null && after != null
+                && before.getCourse().equals(after.getCourse()) && before.getAge().equals(after.getAge())) {
+            return;
+        }
+        swapLock.readLock().lock();
+        try {
+            if (counted(event, loadedSequence)) {
+                return;
+            }
+            Queue<StudentChangedEvent> pending = replay;
+            if (pending != null) {
+                pending.add(event);
+            }
+            apply(courses, event);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<String> getCourses() {
+        long version = membershipVersion.get();
+        CourseNames names = sortedCourseNames;
+        if (names.version() != version) {
+            List<String> sorted = new ArrayList<>();
+            courses.values().forEach(counter -> sorted.add(counter.getName()));
+            sorted.sort(String.CASE_INSENSITIVE_ORDER);
+            names = new CourseNames(version, List.copyOf(sorted));
+            sortedCourseNames = names;
+        }
+        return names.names();
+    }
+
+    public long getCount(String course) {
+        CourseCounter counter = courses.get(CacheConfig.courseKey(course));
+        return counter != null ? counter.getCount() : 0L;
+    }
+
+    public CourseStatsDTO getStatistics(String course) {
+        CourseCounter counter = courses.get(CacheConfig.courseKey(course));
+        return counter != null ? counter.toDTO() : new CourseStatsDTO(course, 0, null, null, null);
+    }
+
+    public List<CourseStatsDTO> getAllStatistics() {
+        List<CourseStatsDTO> statistics = new ArrayList<>();
+        courses.values().forEach(counter -> statistics.add(counter.toDTO()));
+        statistics.sort((a, b) -> String.CASE_INSENSITIVE_ORDER.compare(a.getCourse(), b.getCourse()));
+        return statistics;
+    }
+
+    // Replaces the in-memory state with the database figures plus the changes delivered while they were
+    // queried that the query did not see, and returns the replaced state
+    private Map<String, CourseCounter> rebuild() {
+        replay = new ConcurrentLinkedQueue<>();
+        long sequence;
+        Map<String, CourseCounter> fresh;
+        try {
+            // Repeatable read: both come from the snapshot taken at the first read
+            sequence = outbox.latestSequence();
+            fresh = loadFromDatabase();
+        } catch (RuntimeException e) {
+            replay = null;
+            throw e;
+        }
+        Map<String, CourseCounter> previous;
+        swapLock.writeLock().lock();
+        try {
+            for (StudentChangedEvent event : replay) {
+                if (!counted(event, sequence)) {
+                    apply(fresh, event);
+                }
+            }
+            previous = courses;
+            courses = fresh;
+            loadedSequence = sequence;
+            replay = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        membershipVersion.incrementAndGet();
+        ready = true;
+        return previous;
+    }
+
+    // Whether figures loaded at the given outbox sequence already include the change (unknown without a sequence)
+    private static boolean counted(StudentChangedEvent event, long sequence) {
+        return event.getSequence() > 0 && event.getSequence() <= sequence;
+    }
+
+    private void apply(Map<String, CourseCounter> target, StudentChangedEvent event) {
+        if (event.getBefore() != null) {
+            remove(target, event.getBefore().getCourse(), event.getBefore().getAge());
+        }
+        if (event.getAfter() != null) {
+            add(target, event.getAfter().getCourse(), event.getAfter().getAge());
+        }
+    }
+
+    private void add(Map<String, CourseCounter> target, String course, int age) {
+        boolean[] added = new boolean[1];
+        target.compute(CacheConfig.courseKey(course), (key, counter) -> {
+            if (counter == null) {
+                counter = new CourseCounter(course);
+                added[0] = true;
+            }
+            counter.add(age, 1);
+            return counter;
+        });
+        if (added[0]) {
+            membershipVersion.incrementAndGet();
+        }
+    }
+
+    private void remove(Map<String, CourseCounter> target, String course, int age) {
+        boolean[] removed = new boolean[1];
+        target.computeIfPresent(CacheConfig.courseKey(course), (key, counter) -> {
+            counter.add(age, -1);
+            removed[0] = counter.getCount() <= 0;
+            return removed[0] ? null : counter;
+        });
+        if (removed[0]) {
+            membershipVersion.incrementAndGet();
+        }
+    }
+
+    private Map<String, CourseCounter> loadFromDatabase() {
+        Map<String, CourseCounter> loaded = new ConcurrentHashMap<>();
+        for (Object[] row : studentRepository.countStudentsByCourseAndAge()) {
+            String course = (String) row[0];
+            int age = ((Number) row[1]).intValue();
+            long count = ((Number) row[2]).longValue();
+            loaded.computeIfAbsent(CacheConfig.courseKey(course), key -> new CourseCounter(course)).add(age, count);
+        }
+        return loaded;
+    }
+
+    private record CourseNames(long version, List<String> names) {}
+
+    // Exact age histogram of one course; min, max and average stay correct when students leave
+    private static final class CourseCounter {
+        private final String name;
+        private final long[] ages = new long[MAX_AGE + 1];
+        private long count;
+        private long ageSum;
+
+        CourseCounter(String name) {
+            this.name = name;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        synchronized void add(int age, long delta) {
+            int bucket = Math.max(0, Math.min(age, MAX_AGE));
+            ages[bucket] += delta;
+            count += delta;
+            ageSum += (long) age * delta;
+        }
+
+        synchronized long getCount() {
+            return count;
+        }
+
+        synchronized boolean sameAs(CourseCounter other) {
+            return count == other.count && Arrays.equals(ages, other.ages);
+        }
+
+        synchronized CourseStatsDTO toDTO() {
+            Integer minAge = null;
+            Integer maxAge = null;
+            for (int age = 0; age <= MAX_AGE; age++) {
+                if (ages[age] > 0) {
+                    if (minAge == null) {
+                        minAge = age;
+                    }
+                    maxAge = age;
+                }
+            }
+            Double averageAge = count > 0 ? (double) ageSum / count : null;
+            return new CourseStatsDTO(name, count, minAge, maxAge, averageAge);
+        }
+    }
+}
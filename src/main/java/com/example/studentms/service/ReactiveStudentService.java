@@ -0,0 +1,29 @@
+package com.example.studentms.service;
+
+import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.dto.StudentPageDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Read side of StudentService for the reactive runtime (reactive profile)
+// Lists are streamed with backpressure: rows are fetched as the subscriber (in the end, the client connection)
+// requests them. Writes, search and course statistics stay with StudentService on the servlet stack.
+public interface ReactiveStudentService {
+    
+    // Fails with StudentNotFoundException when there is no such student
+    Mono<StudentDTO> getStudentById(Long studentId);
+    
+    Flux<StudentDTO> getAllStudents();
+    
+    Mono<StudentPageDTO> getStudentsPage(Long afterStudentId, int limit);
+    
+    Flux<StudentDTO> getStudentsByCourse(String course);
+    
+    Flux<StudentDTO> getStudentsByAgeRange(Integer minAge, Integer maxAge);
+    
+    Flux<String> getAllCourses();
+    
+    Mono<Long> getStudentCountByCourse(String course);
+    
+    Mono<Boolean> existsByEmail(String email);
+}
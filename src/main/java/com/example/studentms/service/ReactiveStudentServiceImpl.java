@@ -0,0 +1,89 @@
+package com.example.studentms.service;
+
+import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.dto.StudentPageDTO;
+import com.example.studentms.exception.StudentNotFoundException;
+import com.example.studentms.model.Student;
+import com.example.studentms.model.StudentRow;
+import com.example.studentms.repository.ReactiveStudentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// Reads go straight to the database: the student caches and the email filter live in the servlet
+// nodes, which see the writes, so they would only be stale here
+@Service
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveStudentServiceImpl implements ReactiveStudentService {
+    
+    private final ReactiveStudentRepository studentRepository;
+    
+    @Autowired
+    public ReactiveStudentServiceImpl(ReactiveStudentRepository studentRepository) {
+        this.studentRepository = studentRepository;
+    }
+    
+    @Override
+    public Mono<StudentDTO> getStudentById(Long studentId) {
+        return studentRepository.findById(studentId)
+                .map(ReactiveStudentServiceImpl::convertToDTO)
+                .switchIfEmpty(Mono.error(() -> new StudentNotFoundException("Student not found with ID: " + studentId)));
+    }
+    
+    @Override
+    public Flux<StudentDTO> getAllStudents() {
+        return studentRepository.findAllByOrderByStudentId().map(ReactiveStudentServiceImpl::convertToDTO);
+    }
+    
+    @Override
+    public Mono<StudentPageDTO> getStudentsPage(Long afterStudentId, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, StudentServiceImpl.MAX_PAGE_SIZE));
+        long after = afterStudentId != null ? afterStudentId : 0L;
+        
+        // One extra row tells whether another page follows, as in StudentServiceImpl
+        return studentRepository.findAfter(after, pageSize + 1)
+                .map(ReactiveStudentServiceImpl::convertToDTO)
+                .collectList()
+                .map(rows -> {
+                    boolean hasMore = rows.size() > pageSize;
+                    List<StudentDTO> students = hasMore ? rows.subList(0, pageSize) : rows;
+                    Long nextCursor = hasMore ? students.get(students.size() - 1).getStudentId() : null;
+                    return new StudentPageDTO(students, nextCursor, pageSize);
+                });
+    }
+    
+    @Override
+    public Flux<StudentDTO> getStudentsByCourse(String course) {
+        return studentRepository.findByCourseKey(Student.normalizeKey(course)).map(ReactiveStudentServiceImpl::convertToDTO);
+    }
+    
+    @Override
+    public Flux<StudentDTO> getStudentsByAgeRange(Integer minAge, Integer maxAge) {
+        return studentRepository.findByAgeBetweenOrderByStudentId(minAge, maxAge).map(ReactiveStudentServiceImpl::convertToDTO);
+    }
+    
+    @Override
+    public Flux<String> getAllCourses() {
+        return studentRepository.findAllDistinctCourses();
+    }
+    
+    @Override
+    public Mono<Long> getStudentCountByCourse(String course) {
+        return studentRepository.countByCourseKey(Student.normalizeKey(course));
+    }
+    
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        return studentRepository.existsByEmail(email);
+    }
+    
+    private static StudentDTO convertToDTO(StudentRow row) {
+        return new StudentDTO(row.studentId(), row.firstName(), row.lastName(), row.email(), row.course(), row.age(),
+                row.registrationDate(), row.lastModifiedDate(), row.version());
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.studentms.service;
+
+import com.example.studentms.dto.StudentChangeDTO;
+import com.example.studentms.dto.StudentChangeFeedDTO;
+import com.example.studentms.event.ChangeEvent;
+import com.example.studentms.event.ChangeEventOutbox;
+import com.example.studentms.event.StudentChangedEvent;
+import com.example.studentms.exception.ChangeFeedExpiredException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Incremental feed of student changes, read from the change_events outbox (see ChangeEventOutbox)
+// Downstream systems keep the sequence number of the last change they processed and ask for the changes
+// after it, so they sync in O(changes) instead of listing and diffing every student. Sequence numbers
+// follow commit order without gaps, so a consumer never skips a change. Changes are kept for
+// studentms.change-events.retention; a consumer further behind gets ChangeFeedExpiredException and must
+// start over from a full listing. Streams (Server-Sent Events) at the same position share one scheduled read of
+// the outbox; the events are then written on a pool of their own, so a slow client never holds up the
+// scheduler thread (shared with the other background jobs) nor the other subscribers. The pool is not an Executor bean,
+// which would replace Spring Boot's applicationTaskExecutor.
+@Service
+public class StudentChangeFeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentChangeFeedService.class);
+
+    // Hard cap on the changes per page (and per stream push)
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    static final String CHANGE_EVENT = "student-change";
+    static final String EXPIRED_EVENT = "expired";
+
+    private final ChangeEventOutbox outbox;
+    private final Duration streamTimeout;
+    private final ThreadPoolExecutor sender;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public StudentChangeFeedService(ChangeEventOutbox outbox,
+                                    @Value("${studentms.change-feed.stream-timeout}") Duration streamTimeout,
+                                    @Value("${studentms.change-feed.sender-threads}") int senderThreads,
+                                    @Value("${studentms.change-feed.sender-queue-capacity}") int senderQueueCapacity) {
+        this.outbox = outbox;
+        this.streamTimeout = streamTimeout;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(senderQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "change-feed-sender-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdown();
+    }
+
+    public StudentChangeFeedDTO getChanges(long since, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long latest = outbox.latestSequence();
+        List<ChangeEvent> events = outbox.findAfter(ChangeEventOutbox.STUDENT, since, latest, pageSize + 1);
+        // Checked after the read, so changes pruned meanwhile are noticed too
+        checkRetained(since, latest);
+
+        boolean hasMore = events.size() > pageSize;
+        if (hasMore) {
+            events = events.subList(0, pageSize);
+        }
+        List<StudentChangeDTO> changes = toChanges(events);
+        long next = hasMore ? events.get(events.size() - 1).sequence() : Math.max(since, latest);
+        return new StudentChangeFeedDTO(changes, next, hasMore);
+    }
+
+    // The changes after since are sent as they are committed, each as a "student-change" event whose
+    // id is its sequence number (the Last-Event-ID to resume from after a reconnection)
+    public SseEmitter subscribe(long since) {
+        checkRetained(since, outbox.latestSequence());
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, since);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // One read per position among the subscribers ready for more: the up-to-date ones share a read, while one
+    // far behind (or just connected with an old since) pages through its backlog without holding them back
+    @Scheduled(fixedDelayString = "${studentms.change-feed.stream-poll-interval}")
+    public void publish() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        long latest = outbox.latestSequence();
+        Map<Long, List<Subscriber>> subscribersByCursor = new HashMap<>();
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.sending.get() && subscriber.cursor < latest) {
+                subscribersByCursor.computeIfAbsent(subscriber.cursor, cursor -> new ArrayList<>()).add(subscriber);
+            }
+        }
+        if (subscribersByCursor.isEmpty()) {
+            return;
+        }
+        Long oldest = outbox.oldestSequence();
+        for (Map.Entry<Long, List<Subscriber>> group : subscribersByCursor.entrySet()) {
+            List<ChangeEvent> events = outbox.findAfter(ChangeEventOutbox.STUDENT, group.getKey(), latest, MAX_PAGE_SIZE);
+            long next = events.size() == MAX_PAGE_SIZE ? events.get(events.size() - 1).sequence() : latest;
+            List<StudentChangeDTO> changes = toChanges(events);
+            for (Subscriber subscriber : group.getValue()) {
+                dispatch(subscriber, changes, next, oldest);
+            }
+        }
+    }
+
+    // One batch in flight per subscriber: one still writing the previous batch (a slow client) is skipped, and
+    // catches up from its cursor at a later publication
+    private void dispatch(Subscriber subscriber, List<StudentChangeDTO> changes, long next, Long oldest) {
+        if (!subscriber.sending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> {
+                try {
+                    send(subscriber, changes, next, oldest);
+                } finally {
+                    subscriber.sending.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            subscriber.sending.set(false);
+            logger.debug("Change feed sender pool saturated, subscriber retried at the next publication");
+        }
+    }
+
+    private void send(Subscriber subscriber, List<StudentChangeDTO> changes, long next, Long oldest) {
+        try {
+            if (!retained(subscriber.cursor, next, oldest)) {
+                subscriber.emitter.send(SseEmitter.event().name(EXPIRED_EVENT)
+                        .data("Changes after " + subscriber.cursor + " were pruned, resync from a full listing"));
+                subscriber.emitter.complete();
+                return;
+            }
+            for (StudentChangeDTO change : changes) {
+                if (change.getSequence() > subscriber.cursor) {
+                    subscriber.emitter.send(SseEmitter.event().id(Long.toString(change.getSequence()))
+                            .name(CHANGE_EVENT).data(change, MediaType.APPLICATION_JSON));
+                }
+            }
+            subscriber.cursor = Math.max(subscriber.cursor, next);
+        } catch (IOException | IllegalStateException e) {
+            // Client gone (or the emitter already completed); it resumes from its Last-Event-ID
+            logger.debug("Dropping change feed subscriber - Error: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    private void checkRetained(long since, long latest) {
+        if (since < 0) {
+            throw new IllegalArgumentException("since must not be negative");
+        }
+        if (!retained(since, latest, outbox.oldestSequence())) {
+            throw new ChangeFeedExpiredException("Changes after sequence " + since
+                    + " are no longer retained, resync from a full listing");
+        }
+    }
+
+    // Whether every change after since is still stored (all of them were pruned when none is left)
+    private static boolean retained(long since, long latest, Long oldest) {
+        return oldest == null ? since >= latest : since >= oldest - 1;
+    }
+
+    private List<StudentChangeDTO> toChanges(List<ChangeEvent> events) {
+        List<StudentChangeDTO> changes = new ArrayList<>(events.size());
+        for (ChangeEvent event : events) {
+            StudentChangedEvent change = outbox.readStudentChange(event);
+            changes.add(new StudentChangeDTO(event.sequence(), event.changeType(), change.getStudentId(),
+                    change.getAfter(), event.createdAt()));
+        }
+        return changes;
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        // Only advanced by the sender writing to this subscriber (one at a time, see dispatch)
+        private volatile long cursor;
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.studentms.service;
+
+import com.example.studentms.model.Student;
+import com.example.studentms.repository.StudentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+// In-memory bloom filter of every student email, so /email/exists can answer "no" for an email that was
+// never stored without querying the database ("yes" still goes to the database, which has the last word).
+// Filled with one pass over the table once the application is ready; until then every email may exist.
+// Emails are added before their insert or update is flushed, so a committed email is always in the filter;
+// rolled back writes and deletions only leave false positives. Emails are lower-cased, so the filter covers
+// case-insensitive collations too. Sized for studentms.email-filter.expected-emails at the target
+// false positive rate; more emails than that only raise the rate.
+@Service
+public class StudentEmailFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentEmailFilter.class);
+
+    private final StudentRepository studentRepository;
+    private final boolean enabled;
+    private final long expectedEmails;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private volatile boolean ready;
+
+    @Autowired
+    public StudentEmailFilter(StudentRepository studentRepository,
+                              @Value("${studentms.email-filter.enabled:true}") boolean enabled,
+                              @Value("${studentms.email-filter.expected-emails:1000000}") long expectedEmails,
+                              @Value("${studentms.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.studentRepository = studentRepository;
+        this.enabled = enabled;
+        this.expectedEmails = expectedEmails;
+        // Optimal size and number of hash functions for n elements at false positive rate p
+        long bitsNeeded = (long) Math.ceil(-expectedEmails * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, (bitsNeeded + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEmails * Math.log(2)));
+        this.bits = new AtomicLongArray(enabled ? (int) (bitCount / 64) : 0);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        long loaded = 0;
+        try (Stream<String> emails = studentRepository.streamAllEmails()) {
+            for (String email : (Iterable<String>) emails::iterator) {
+                add(email);
+                loaded++;
+            }
+        }
+        ready = true;
+        logger.info("Email filter loaded {} emails ({} KB, {} hash functions)", loaded, bitCount / 8 / 1024, hashCount);
+        if (loaded > expectedEmails) {
+            logger.warn("Email filter holds {} emails but is sized for {}; raise studentms.email-filter.expected-emails",
+                    loaded, expectedEmails);
+        }
+    }
+
+    public void add(String email) {
+        if (!enabled || email == null) {
+            return;
+        }
+        long hash = hash(email);
+        long step = mix(hash ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash + i * step, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    // False means no student has this email; true means one may have
+    public boolean mightContain(String email) {
+        if (!ready || email == null) {
+            return true;
+        }
+        long hash = hash(email);
+        long step = mix(hash ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash + i * step, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 64-bit FNV-1a over the normalized email, then a finalizer so both halves of the hash are well mixed
+    private static long hash(String email) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : Student.normalizeKey(email).getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,591 @@
+package com.example.studentms.service;
+
+import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.event.StudentChangedEvent;
+import com.example.studentms.model.Student;
+import com.example.studentms.repository.StudentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+// In-memory prefix index over student names, emails and courses for type-ahead search
+// Every field is split into lower-cased runs of letters or digits ("john.smith42@uni.edu" gives john,
+// smith, 42, uni and edu). Terms live in a sorted map, so a query token matches the contiguous range of
+// terms it is a prefix of, and each term holds the sorted student IDs that contain it, per field.
+// The index is loaded once the application is ready and then maintained from the StudentChangedEvents
+// of committed writes. It only holds IDs and terms; result pages are loaded from the database.
+//
+// Ranking: every query token scores the best field it matches in a student (names over email over
+// course, a whole term over a prefix), a student has to match all tokens and the scores are summed.
+// Ties are broken by student ID so pages are stable.
+@Service
+public class StudentSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentSearchService.class);
+
+    static final int FIRST_NAME = 0;
+    static final int LAST_NAME = 1;
+    static final int EMAIL = 2;
+    static final int COURSE = 3;
+    private static final int FIELD_COUNT = 4;
+
+    private static final int[] FIELD_WEIGHTS = {3, 3, 2, 1};
+    private static final int EXACT_BOOST = 2;
+
+    // Every distinct score a single token can have, highest first
+    private static final int[] LEVELS = {6, 4, 3, 2, 1};
+
+    // Above this many candidates a single-token query is answered level by level instead of scoring every match
+    private static final int DEFAULT_MAX_SCORED_CANDIDATES = 20_000;
+
+    // Posting lists merged by scanning all cursors rather than through a heap, and the most a
+    // candidate is galloped through before its terms are checked directly
+    private static final int LINEAR_MERGE_CURSORS = 32;
+    private static final int MAX_GALLOPING_CURSORS = 16;
+
+    private static final String[] NO_TERMS = new String[0];
+    private static final Comparator<Hit> RANKING =
+            Comparator.comparingInt(Hit::score).reversed().thenComparingLong(Hit::studentId);
+
+    private final StudentRepository studentRepository;
+    private final int maxScoredCandidates;
+
+    private final ConcurrentSkipListMap<String, Term> terms = new ConcurrentSkipListMap<>();
+    private final Map<Long, String[][]> documents = new ConcurrentHashMap<>();
+
+    // Writers are serialized on this lock, readers only ever see published posting snapshots
+    private final Object writeLock = new Object();
+    // Non-null while the initial load runs, so a student deleted meanwhile is not re-added from the load
+    private Set<Long> removedWhileLoading;
+
+    @Autowired
+    public StudentSearchService(StudentRepository studentRepository) {
+        this(studentRepository, DEFAULT_MAX_SCORED_CANDIDATES);
+    }
+
+    StudentSearchService(StudentRepository studentRepository, int maxScoredCandidates) {
+        this.studentRepository = studentRepository;
+        this.maxScoredCandidates = maxScoredCandidates;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        synchronized (writeLock) {
+            removedWhileLoading = new HashSet<>();
+        }
+        long started = System.nanoTime();
+        // Rows arrive in ID order, so postings are appended rather than inserted
+        try (Stream<StudentDTO> students = studentRepository.streamAllDTOs()) {
+            students.forEach(this::indexIfAbsent);
+        } finally {
+            synchronized (writeLock) {
+                removedWhileLoading = null;
+            }
+        }
+        logger.info("Search index loaded {} students ({} terms) in {} ms",
+                documents.size(), terms.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (event.getAfter() != null) {
+            index(event.getAfter());
+        } else {
+            remove(event.getStudentId());
+        }
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    // Add or re-index a student; only the terms that changed are touched
+    public void index(StudentDTO student) {
+        synchronized (writeLock) {
+            String[][] document = toDocument(student);
+            String[][] previous = documents.put(student.getStudentId(), document);
+            updatePostings(student.getStudentId(), previous, document);
+        }
+    }
+
+    public void remove(Long studentId) {
+        synchronized (writeLock) {
+            String[][] previous = documents.remove(studentId);
+            if (previous != null) {
+                updatePostings(studentId, previous, null);
+            }
+            if (removedWhileLoading != null) {
+                removedWhileLoading.add(studentId);
+            }
+        }
+    }
+
+    // The initial load reads a snapshot, so it must not overwrite anything events have applied since
+    private void indexIfAbsent(StudentDTO student) {
+        synchronized (writeLock) {
+            Long studentId = student.getStudentId();
+            if (documents.containsKey(studentId)
+                    || (removedWhileLoading != null && removedWhileLoading.contains(studentId))) {
+                return;
+            }
+            String[][] document = toDocument(student);
+            documents.put(studentId, document);
+            updatePostings(studentId, null, document);
+        }
+    }
+
+    // IDs of the students matching every token of the query, ranked, skipping the first offset matches
+    public List<Long> search(String query, int offset, int limit) {
+        String[] tokens = tokenize(query);
+        if (tokens.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        // Every token's posting lists are snapshotted once; writers may publish new ones meanwhile, but
+        // the counts and the merges below all see the same
+        List<List<Cursor>> cursors = new ArrayList<>(tokens.length);
+        long[] postings = new long[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            cursors.add(cursors(tokens[i]));
+            postings[i] = countPostings(cursors.get(i));
+            if (postings[i] == 0) {
+                return List.of();
+            }
+        }
+
+        if (tokens.length == 1 && postings[0] > maxScoredCandidates) {
+            return searchByLevel(tokens[0], cursors.get(0), offset, limit);
+        }
+        return searchScored(tokens, cursors, postings, offset, limit);
+    }
+
+    // The token with the fewest postings gives the candidates (a sorted union of its posting lists),
+    // every further token, cheapest first, removes the candidates it does not match and adds its score.
+    // The best offset + limit candidates are then picked with a bounded heap.
+    private List<Long> searchScored(String[] tokens, List<List<Cursor>> cursorsByToken, long[] postings,
+                                    int offset, int limit) {
+        Integer[] order = new Integer[tokens.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> postings[i]));
+
+        // The union holds at most as many students as the postings of the snapshot it merges
+        long[] studentIds = new long[(int) postings[order[0]]];
+        int[] scores = new int[studentIds.length];
+        int count = union(cursorsByToken.get(order[0]), studentIds, scores);
+        for (int i = 1; i < order.length && count > 0; i++) {
+            String token = tokens[order[i]];
+            List<Cursor> cursors = cursorsByToken.get(order[i]);
+            count = cursors.size() <= MAX_GALLOPING_CURSORS
+                    ? retainMatching(cursors, studentIds, scores, count)
+                    : retainMatching(token, studentIds, scores, count);
+        }
+
+        int wanted = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        PriorityQueue<Hit> best = new PriorityQueue<>(RANKING.reversed());
+        for (int i = 0; i < count; i++) {
+            Hit hit = new Hit(studentIds[i], scores[i]);
+            if (best.size() < wanted) {
+                best.add(hit);
+            } else if (RANKING.compare(hit, best.peek()) < 0) {
+                best.poll();
+                best.add(hit);
+            }
+        }
+
+        List<Hit> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING);
+        List<Long> page = new ArrayList<>();
+        for (int i = offset; i < ranked.size(); i++) {
+            page.add(ranked.get(i).studentId());
+        }
+        return page;
+    }
+
+    // Merges the posting lists into studentIds/scores in ID order, keeping each student's best score;
+    // returns the number of students
+    private static int union(List<Cursor> cursors, long[] studentIds, int[] scores) {
+        int count = 0;
+        if (cursors.size() <= LINEAR_MERGE_CURSORS) {
+            Cursor[] active = cursors.toArray(new Cursor[0]);
+            int remaining = active.length;
+            while (remaining > 0) {
+                long studentId = Long.MAX_VALUE;
+                for (int i = 0; i < remaining; i++) {
+                    studentId = Math.min(studentId, active[i].current());
+                }
+                int score = 0;
+                for (int i = 0; i < remaining; ) {
+                    Cursor cursor = active[i];
+                    if (cursor.current() == studentId) {
+                        score = Math.max(score, cursor.score);
+                        if (!cursor.advance()) {
+                            active[i] = active[--remaining];
+                            continue;
+                        }
+                    }
+                    i++;
+                }
+                studentIds[count] = studentId;
+                scores[count++] = score;
+            }
+        } else {
+            PriorityQueue<Cursor> merge = new PriorityQueue<>(Comparator.comparingLong(Cursor::current));
+            merge.addAll(cursors);
+            while (!merge.isEmpty()) {
+                Cursor cursor = merge.poll();
+                long studentId = cursor.current();
+                if (count > 0 && studentIds[count - 1] == studentId) {
+                    scores[count - 1] = Math.max(scores[count - 1], cursor.score);
+                } else {
+                    studentIds[count] = studentId;
+                    scores[count++] = cursor.score;
+                }
+                if (cursor.advance()) {
+                    merge.add(cursor);
+                }
+            }
+        }
+        return count;
+    }
+
+    // Keeps the candidates found in one of the posting lists, galloping through each of them
+    private static int retainMatching(List<Cursor> cursors, long[] studentIds, int[] scores, int count) {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int tokenScore = 0;
+            for (Cursor cursor : cursors) {
+                if (cursor.advanceTo(studentIds[i])) {
+                    tokenScore = Math.max(tokenScore, cursor.score);
+                }
+            }
+            if (tokenScore > 0) {
+                studentIds[kept] = studentIds[i];
+                scores[kept++] = scores[i] + tokenScore;
+            }
+        }
+        return kept;
+    }
+
+    // Same for a token spread over many terms (a short prefix, a digit): each candidate's terms are checked instead
+    private int retainMatching(String token, long[] studentIds, int[] scores, int count) {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            String[][] document = documents.get(studentIds[i]);
+            int tokenScore = document != null ? score(document, token) : 0;
+            if (tokenScore > 0) {
+                studentIds[kept] = studentIds[i];
+                scores[kept++] = scores[i] + tokenScore;
+            }
+        }
+        return kept;
+    }
+
+    // One cursor per non-empty (term, field) posting list, scored for the token that matched it
+    private List<Cursor> cursors(String token) {
+        List<Cursor> cursors = new ArrayList<>();
+        for (Map.Entry<String, Term> entry : prefixRange(token).entrySet()) {
+            Postings postings = entry.getValue().postings;
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                if (postings.sizes[field] > 0) {
+                    cursors.add(new Cursor(postings.ids[field], postings.sizes[field], score(entry.getKey(), field, token)));
+                }
+            }
+        }
+        return cursors;
+    }
+
+    // For a single token every score level is a merge of sorted posting arrays, so the walk can stop
+    // as soon as the page is full instead of touching every matching student
+    private List<Long> searchByLevel(String token, List<Cursor> cursors, int offset, int limit) {
+        List<List<Cursor>> cursorsByLevel = new ArrayList<>();
+        for (int i = 0; i < LEVELS.length; i++) {
+            cursorsByLevel.add(new ArrayList<>());
+        }
+        for (Cursor cursor : cursors) {
+            cursorsByLevel.get(levelIndex(cursor.score)).add(cursor);
+        }
+
+        List<Long> studentIds = new ArrayList<>(limit);
+        int skipped = 0;
+        for (int level = 0; level < LEVELS.length; level++) {
+            PriorityQueue<Cursor> merge = new PriorityQueue<>(Comparator.comparingLong(Cursor::current));
+            merge.addAll(cursorsByLevel.get(level));
+            long previous = -1;
+            while (!merge.isEmpty()) {
+                Cursor cursor = merge.poll();
+                long studentId = cursor.current();
+                if (cursor.advance()) {
+                    merge.add(cursor);
+                }
+                if (studentId == previous) {
+                    continue;
+                }
+                previous = studentId;
+
+                // A student matching at a higher level was already returned there; a stale posting scores 0
+                String[][] document = documents.get(studentId);
+                if (document == null || score(document, token) != LEVELS[level]) {
+                    continue;
+                }
+                if (skipped < offset) {
+                    skipped++;
+                    continue;
+                }
+                studentIds.add(studentId);
+                if (studentIds.size() == limit) {
+                    return studentIds;
+                }
+            }
+        }
+        return studentIds;
+    }
+
+    private NavigableMap<String, Term> prefixRange(String token) {
+        return terms.subMap(token, true, token + Character.MAX_VALUE, true);
+    }
+
+    // Total postings under the cursors
+    private static long countPostings(List<Cursor> cursors) {
+        long count = 0;
+        for (Cursor cursor : cursors) {
+            count += cursor.size;
+        }
+        return count;
+    }
+
+    // Score of a term of the given field that starts with the query token
+    private static int score(String term, int field, String token) {
+        return FIELD_WEIGHTS[field] * (term.length() == token.length() ? EXACT_BOOST : 1);
+    }
+
+    // Best score of one query token against a student, 0 when no term starts with it
+    private static int score(String[][] document, String token) {
+        int best = 0;
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            for (String term : document[field]) {
+                if (term.startsWith(token)) {
+                    best = Math.max(best, score(term, field, token));
+                }
+            }
+        }
+        return best;
+    }
+
+    private static int levelIndex(int score) {
+        for (int i = 0; i < LEVELS.length; i++) {
+            if (LEVELS[i] == score) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("No search level for score " + score);
+    }
+
+    // Diff the old and new terms of a student field by field; either side may be null
+    private void updatePostings(long studentId, String[][] previous, String[][] current) {
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            String[] before = previous != null ? previous[field] : NO_TERMS;
+            String[] after = current != null ? current[field] : NO_TERMS;
+            for (String term : before) {
+                if (!contains(after, term)) {
+                    Term entry = terms.get(term);
+                    if (entry != null && entry.remove(field, studentId)) {
+                        terms.remove(term, entry);
+                    }
+                }
+            }
+            for (String term : after) {
+                if (!contains(before, term)) {
+                    terms.computeIfAbsent(term, key -> new Term()).add(field, studentId);
+                }
+            }
+        }
+    }
+
+    private static boolean contains(String[] values, String value) {
+        for (String candidate : values) {
+            if (candidate.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String[][] toDocument(StudentDTO student) {
+        String[][] document = new String[FIELD_COUNT][];
+        document[FIRST_NAME] = tokenize(student.getFirstName());
+        document[LAST_NAME] = tokenize(student.getLastName());
+        document[EMAIL] = tokenize(student.getEmail());
+        document[COURSE] = tokenize(student.getCourse());
+        // A token scores the best field it matches, so a term already in a heavier field (the last name
+        // repeated in the email address) can never change the ranking; leaving it out keeps postings short
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            document[field] = withoutHeavierTerms(document, field);
+        }
+        return document;
+    }
+
+    private static String[] withoutHeavierTerms(String[][] document, int field) {
+        List<String> kept = new ArrayList<>(document[field].length);
+        for (String term : document[field]) {
+            boolean heavier = false;
+            for (int other = 0; other < FIELD_COUNT && !heavier; other++) {
+                heavier = FIELD_WEIGHTS[other] > FIELD_WEIGHTS[field] && contains(document[other], term);
+            }
+            if (!heavier) {
+                kept.add(term);
+            }
+        }
+        return kept.size() == document[field].length ? document[field] : kept.toArray(NO_TERMS);
+    }
+
+    // Lower-cased runs of letters or of digits, without duplicates
+    static String[] tokenize(String value) {
+        if (value == null) {
+            return NO_TERMS;
+        }
+        List<String> tokens = new ArrayList<>(2);
+        int start = -1;
+        for (int i = 0; i <= value.length(); i++) {
+            int kind = i < value.length() ? charKind(value.charAt(i)) : 0;
+            if (start >= 0 && kind != charKind(value.charAt(start))) {
+                String token = Student.normalizeKey(value.substring(start, i));
+                if (!tokens.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+            if (start < 0 && kind != 0) {
+                start = i;
+            }
+        }
+        return tokens.isEmpty() ? NO_TERMS : tokens.toArray(NO_TERMS);
+    }
+
+    // 1 for letters, 2 for digits, 0 for separators
+    private static int charKind(char c) {
+        return Character.isLetter(c) ? 1 : Character.isDigit(c) ? 2 : 0;
+    }
+
+    private record Hit(long studentId, int score) {}
+
+    // Sorted student IDs per field of one term
+    // Writers (holding the write lock) either append into spare capacity past every published size or
+    // copy the array, then publish a new snapshot, so readers never see a partially written posting list.
+    private static final class Term {
+        private static final int INITIAL_CAPACITY = 2;
+
+        private volatile Postings postings = new Postings(new long[FIELD_COUNT][], new int[FIELD_COUNT]);
+
+        void add(int field, long studentId) {
+            Postings current = postings;
+            long[] ids = current.ids[field];
+            int size = current.sizes[field];
+            int position = ids != null ? Arrays.binarySearch(ids, 0, size, studentId) : -1;
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -position - 1;
+
+            long[][] nextIds = current.ids.clone();
+            if (ids != null && insertAt == size && size < ids.length) {
+                ids[size] = studentId;
+            } else {
+                long[] grown = new long[Math.max(INITIAL_CAPACITY, size + (size >> 1) + 1)];
+                if (ids != null) {
+                    System.arraycopy(ids, 0, grown, 0, insertAt);
+                    System.arraycopy(ids, insertAt, grown, insertAt + 1, size - insertAt);
+                }
+                grown[insertAt] = studentId;
+                nextIds[field] = grown;
+            }
+            int[] nextSizes = current.sizes.clone();
+            nextSizes[field] = size + 1;
+            postings = new Postings(nextIds, nextSizes);
+        }
+
+        // Returns true once the term has no postings left in any field
+        boolean remove(int field, long studentId) {
+            Postings current = postings;
+            long[] ids = current.ids[field];
+            int size = current.sizes[field];
+            int position = ids != null ? Arrays.binarySearch(ids, 0, size, studentId) : -1;
+            if (position >= 0) {
+                long[] shrunk = new long[size - 1];
+                System.arraycopy(ids, 0, shrunk, 0, position);
+                System.arraycopy(ids, position + 1, shrunk, position, size - position - 1);
+                long[][] nextIds = current.ids.clone();
+                nextIds[field] = shrunk;
+                int[] nextSizes = current.sizes.clone();
+                nextSizes[field] = size - 1;
+                current = new Postings(nextIds, nextSizes);
+                postings = current;
+            }
+            for (int remaining : current.sizes) {
+                if (remaining > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private record Postings(long[][] ids, int[] sizes) {}
+
+    // Position in one posting list snapshot
+    private static final class Cursor {
+        private final long[] ids;
+        private final int size;
+        private final int score;
+        private int position;
+
+        Cursor(long[] ids, int size, int score) {
+            this.ids = ids;
+            this.size = size;
+            this.score = score;
+        }
+
+        long current() {
+            return ids[position];
+        }
+
+        boolean advance() {
+            return ++position < size;
+        }
+
+        // Gallops forward to the first posting >= studentId and tells whether it is that student
+        boolean advanceTo(long studentId) {
+            if (position < size && ids[position] < studentId) {
+                int low = position;
+                int step = 1;
+                while (low + step < size && ids[low + step] < studentId) {
+                    low += step;
+                    step <<= 1;
+                }
+                int found = Arrays.binarySearch(ids, low + 1, Math.min(low + step + 1, size), studentId);
+                position = found >= 0 ? found : -found - 1;
+            }
+            return position < size && ids[position] == studentId;
+        }
+    }
+}
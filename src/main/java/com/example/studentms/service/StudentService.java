@@ -1,29 +1,59 @@
 package com.example.studentms.service;
 
+import com.example.studentms.dto.CourseStatsDTO;
 import com.example.studentms.dto.StudentCreateDTO;
 import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.dto.StudentImportReportDTO;
+import com.example.studentms.dto.StudentListVersionDTO;
+import com.example.studentms.dto.StudentPageDTO;
+import com.example.studentms.dto.StudentSearchResultDTO;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface StudentService {
     
     StudentDTO createStudent(StudentCreateDTO studentCreateDTO);
     
+    StudentImportReportDTO importStudents(List<StudentCreateDTO> students);
+    
     StudentDTO getStudentById(Long studentId);
     
     List<StudentDTO> getAllStudents();
     
-    StudentDTO updateStudent(Long studentId, StudentCreateDTO studentCreateDTO);
+    StudentPageDTO getStudentsPage(Long afterStudentId, int limit);
+    
+    void exportStudents(Consumer<StudentDTO> consumer);
+    
+    // expectedVersion is the version the client last read (null for an unconditional update)
+    StudentDTO updateStudent(Long studentId, StudentCreateDTO studentCreateDTO, Long expectedVersion);
+    
+    // JSON Merge Patch of the editable fields (firstName, lastName, email, course, age);
+    // an invalid patch throws IllegalArgumentException
+    StudentDTO patchStudent(Long studentId, Map<String, Object> patch, Long expectedVersion);
     
     void deleteStudent(Long studentId);
     
     List<StudentDTO> getStudentsByCourse(String course);
     
+    // Reads the getStudentsByCourse listing from the database, replacing its cached copy
+    List<StudentDTO> reloadStudentsByCourse(String course);
+    
+    // Version of the getStudentsByCourse listing (its count and latest modification), read without loading it
+    StudentListVersionDTO getCourseListVersion(String course);
+    
     List<StudentDTO> getStudentsByAgeRange(Integer minAge, Integer maxAge);
     
+    StudentSearchResultDTO searchStudents(String query, int page, int size);
+    
     List<String> getAllCourses();
     
     Long getStudentCountByCourse(String course);
     
+    CourseStatsDTO getCourseStatistics(String course);
+    
+    List<CourseStatsDTO> getAllCourseStatistics();
+    
     boolean existsByEmail(String email);
 }
\ No newline at end of file
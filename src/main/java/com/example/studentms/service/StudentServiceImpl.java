@@ -1,36 +1,112 @@
 package com.example.studentms.service;
 
+import com.example.studentms.config.CacheConfig;
+import com.example.studentms.dto.CourseStatsDTO;
 import com.example.studentms.dto.StudentCreateDTO;
 import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.dto.StudentImportReportDTO;
+import com.example.studentms.dto.StudentListVersionDTO;
+import com.example.studentms.dto.StudentImportRowDTO;
+import com.example.studentms.dto.StudentPageDTO;
+import com.example.studentms.dto.StudentSearchResultDTO;
+import com.example.studentms.event.StudentChangedEvent;
 import com.example.studentms.exception.EmailAlreadyExistsException;
 import com.example.studentms.exception.StudentNotFoundException;
+import com.example.studentms.exception.StudentVersionMismatchException;
 import com.example.studentms.model.Student;
 import com.example.studentms.repository.StudentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class StudentServiceImpl implements StudentService {
 
+    // Hard cap on the page size of the paginated listing, whatever the client asks for
+    public static final int MAX_PAGE_SIZE = 500;
+
+    // Hard cap on the page size of search results
+    public static final int MAX_SEARCH_PAGE_SIZE = 100;
+
+    // Rows per flush during bulk import; matches hibernate.jdbc.batch_size
+    private static final int IMPORT_BATCH_SIZE = 500;
+
+    // Emails per IN (...) lookup when checking a bulk import for duplicates
+    private static final int EMAIL_LOOKUP_CHUNK_SIZE = 1000;
+
+    // Unique constraint on students.email (V1__create_tables.sql)
+    private static final String UNIQUE_EMAIL_CONSTRAINT = "uk_students_email";
+
+    // Duplicate-key errors: MySQL's vendor code, and the standard SQLState H2 reports
+    private static final int MYSQL_DUPLICATE_KEY = 1062;
+    private static final String DUPLICATE_KEY_STATE = "23505";
+
+    // Transactions tried by an unconditional update that keeps losing to concurrent writers
+    private static final int MAX_UPDATE_ATTEMPTS = 5;
+
     private final StudentRepository studentRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final CacheManager cacheManager;
+    private final CourseStatisticsService courseStatistics;
+    private final StudentSearchService studentSearch;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StudentEmailFilter emailFilter;
+    private final TransactionTemplate updateTransaction;
+    private final TransactionTemplate importTransaction;
 
     @Autowired
-    public StudentServiceImpl(StudentRepository studentRepository) {
+    public StudentServiceImpl(StudentRepository studentRepository, EntityManager entityManager,
+                              Validator validator, CacheManager cacheManager,
+                              CourseStatisticsService courseStatistics, StudentSearchService studentSearch,
+                              ApplicationEventPublisher eventPublisher, StudentEmailFilter emailFilter,
+                              PlatformTransactionManager transactionManager) {
         this.studentRepository = studentRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.cacheManager = cacheManager;
+        this.courseStatistics = courseStatistics;
+        this.studentSearch = studentSearch;
+        this.eventPublisher = eventPublisher;
+        this.emailFilter = emailFilter;
+        this.updateTransaction = new TransactionTemplate(transactionManager);
+        this.importTransaction = new TransactionTemplate(transactionManager);
     }
 
+    // No existsByEmail pre-check: the unique constraint on students.email makes the insert itself the check,
+    // which also holds for concurrent creates (the loser's flush fails and is reported as EmailAlreadyExists)
     @Override
     public StudentDTO createStudent(StudentCreateDTO studentCreateDTO) {
-        // Check if email already exists
-        if (studentRepository.existsByEmail(studentCreateDTO.getEmail())) {
-            throw new EmailAlreadyExistsException("Email already exists: " + studentCreateDTO.getEmail());
-        }
-
         Student student = new Student(
             studentCreateDTO.getFirstName(),
             studentCreateDTO.getLastName(),
@@ -39,36 +115,243 @@ public class StudentServiceImpl implements StudentService {
             studentCreateDTO.getAge()
         );
 
-        Student savedStudent = studentRepository.save(student);
-        return convertToDTO(savedStudent);
+        // Flush so a duplicate email fails here and the generated timestamps are in the returned (and cached) DTO
+        emailFilter.add(student.getEmail());
+        Student savedStudent = saveAndFlush(student);
+        StudentDTO created = convertToDTO(savedStudent);
+
+        cacheStudent(created);
+        evictCourseList(created.getCourse());
+        eventPublisher.publishEvent(StudentChangedEvent.created(created));
+        return created;
     }
 
+    // Emails are compared the way the unique key compares them, as in createStudent: the checks below match the
+    // exact text, and a variant the key treats as equal (or an email another request takes meanwhile) fails its
+    // insert and is reported on its row. Each batch commits on its own, so imported rows stay imported.
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StudentImportReportDTO importStudents(List<StudentCreateDTO> students) {
+        List<StudentImportRowDTO> rows = new ArrayList<>(students.size());
+        Map<String, Integer> firstRowByEmail = new HashMap<>();
+        List<Integer> candidates = new ArrayList<>();
+
+        // Validate every row and reject emails repeated within the upload itself
+        for (int i = 0; i < students.size(); i++) {
+            StudentCreateDTO dto = students.get(i);
+            List<String> errors = new ArrayList<>();
+            if (dto == null) {
+                errors.add("Row is empty");
+            } else {
+                for (ConstraintViolation<StudentCreateDTO> violation : validator.validate(dto)) {
+                    errors.add(violation.getMessage());
+                }
+                errors.sort(null);
+            }
+            String email = dto != null ? dto.getEmail() : null;
+            if (errors.isEmpty()) {
+                Integer firstRow = firstRowByEmail.putIfAbsent(email, i + 1);
+                if (firstRow != null) {
+                    errors.add("Duplicate email in import (first seen in row " + firstRow + "): " + email);
+                }
+            }
+            if (errors.isEmpty()) {
+                candidates.add(i);
+                rows.add(null);
+            } else {
+                rows.add(new StudentImportRowDTO(i + 1, email, StudentImportRowDTO.FAILED, null, errors));
+            }
+        }
+
+        // One set-based lookup per chunk instead of an existsByEmail query per row
+        Set<String> existingEmails = new HashSet<>();
+        List<String> emails = candidates.stream().map(i -> students.get(i).getEmail()).toList();
+        for (int from = 0; from < emails.size(); from += EMAIL_LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = emails.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK_SIZE, emails.size()));
+            existingEmails.addAll(studentRepository.findExistingEmails(chunk));
+        }
+
+        // Insert the remaining rows in JDBC batches, clearing the persistence context between them
+        int imported = 0;
+        List<Integer> batchRows = new ArrayList<>(IMPORT_BATCH_SIZE);
+        for (Integer i : candidates) {
+            StudentCreateDTO dto = students.get(i);
+            if (existingEmails.contains(dto.getEmail())) {
+                rows.set(i, emailTaken(i, dto.getEmail()));
+                continue;
+            }
+            emailFilter.add(dto.getEmail());
+            batchRows.add(i);
+            if (batchRows.size() == IMPORT_BATCH_SIZE) {
+                imported += importBatch(students, batchRows, rows);
+            }
+        }
+        imported += importBatch(students, batchRows, rows);
+
+        Set<String> importedCourses = new HashSet<>();
+        for (StudentImportRowDTO row : rows) {
+            if (StudentImportRowDTO.IMPORTED.equals(row.getStatus())) {
+                importedCourses.add(students.get(row.getRow() - 1).getCourse());
+            }
+        }
+        importedCourses.forEach(this::evictCourseList);
+
+        return new StudentImportReportDTO(students.size(), imported, students.size() - imported, rows);
+    }
+
+    // A batch whose insert hits a taken email is rolled back and retried row by row, so only those rows fail
+    private int importBatch(List<StudentCreateDTO> students, List<Integer> batchRows, List<StudentImportRowDTO> rows) {
+        if (batchRows.isEmpty()) {
+            return 0;
+        }
+        int imported;
+        try {
+            imported = importTransaction.execute(status -> insertImportRows(students, batchRows, rows));
+        } catch (DataIntegrityViolationException e) {
+            imported = 0;
+            for (Integer i : batchRows) {
+                String email = students.get(i).getEmail();
+                try {
+                    imported += importTransaction.execute(status -> insertImportRows(students, List.of(i), rows));
+                } catch (DataIntegrityViolationException rowFailure) {
+                    if (!violatesUniqueEmail(rowFailure, email)) {
+                        throw rowFailure;
+                    }
+                    rows.set(i, emailTaken(i, email));
+                }
+            }
+        }
+        batchRows.clear();
+        return imported;
+    }
+
+    private int insertImportRows(List<StudentCreateDTO> students, List<Integer> batchRows, List<StudentImportRowDTO> rows) {
+        List<Student> batch = new ArrayList<>(batchRows.size());
+        for (Integer i : batchRows) {
+            StudentCreateDTO dto = students.get(i);
+            batch.add(new Student(dto.getFirstName(), dto.getLastName(), dto.getEmail(), dto.getCourse(), dto.getAge()));
+        }
+        studentRepository.saveAll(batch);
+        studentRepository.flush();
+        entityManager.clear();
+        for (int j = 0; j < batch.size(); j++) {
+            Student student = batch.get(j);
+            int i = batchRows.get(j);
+            rows.set(i, new StudentImportRowDTO(i + 1, student.getEmail(), StudentImportRowDTO.IMPORTED,
+                    student.getStudentId(), List.of()));
+            eventPublisher.publishEvent(StudentChangedEvent.created(convertToDTO(student)));
+        }
+        return batch.size();
+    }
+
+    private static StudentImportRowDTO emailTaken(int i, String email) {
+        return new StudentImportRowDTO(i + 1, email, StudentImportRowDTO.FAILED, null,
+                List.of("Email already exists: " + email));
+    }
+
+    // Read-through like @Cacheable, but a student loaded before a concurrent update never replaces the newer
+    // version that update cached (see cacheStudent)
     @Override
-    @Transactional(readOnly = true)
     public StudentDTO getStudentById(Long studentId) {
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new StudentNotFoundException("Student not found with ID: " + studentId));
-        return convertToDTO(student);
+        StudentDTO cached = cache(CacheConfig.STUDENTS).get(studentId, StudentDTO.class);
+        if (cached != null) {
+            return cached;
+        }
+        return cacheStudent(studentRepository.findDTOById(studentId)
+                .orElseThrow(() -> new StudentNotFoundException("Student not found with ID: " + studentId)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<StudentDTO> getAllStudents() {
-        return studentRepository.findAll()
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return studentRepository.findAllDTOs();
     }
 
     @Override
-    public StudentDTO updateStudent(Long studentId, StudentCreateDTO studentCreateDTO) {
+    @Transactional(readOnly = true)
+    public StudentPageDTO getStudentsPage(Long afterStudentId, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long after = afterStudentId != null ? afterStudentId : 0L;
+
+        // Fetch one extra row so we know whether another page follows without a COUNT query
+        List<StudentDTO> rows = studentRepository.findDTOsAfter(after, PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<StudentDTO> students = hasMore ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasMore ? students.get(students.size() - 1).getStudentId() : null;
+
+        return new StudentPageDTO(students, nextCursor, pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportStudents(Consumer<StudentDTO> consumer) {
+        // Rows are projected straight to DTOs, so nothing accumulates in the persistence context
+        try (Stream<StudentDTO> students = studentRepository.streamAllDTOs()) {
+            students.forEach(consumer);
+        }
+    }
+
+    // Updates never lock the student row up front: the version check of the UPDATE detects a concurrent
+    // change. With an expected version (the client's If-Match) a stale copy fails with
+    // StudentVersionMismatchException and losing a race fails with OptimisticLockingFailureException, for
+    // the client to re-read and decide. Without one the update applies to whatever is current, so a lost
+    // race is simply retried in a new transaction, at most MAX_UPDATE_ATTEMPTS times.
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StudentDTO updateStudent(Long studentId, StudentCreateDTO studentCreateDTO, Long expectedVersion) {
+        return update(studentId, current -> studentCreateDTO, expectedVersion);
+    }
+
+    // JSON Merge Patch (RFC 7386) of the editable fields: the patch is applied to the student as loaded in
+    // the update's transaction (so a retried patch applies to the latest state) and the result validated
+    // like a full update. A null value would remove the field, which every field here forbids.
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StudentDTO patchStudent(Long studentId, Map<String, Object> patch, Long expectedVersion) {
+        return update(studentId, current -> mergePatch(current, patch), expectedVersion);
+    }
+
+    private StudentDTO update(Long studentId, Function<Student, StudentCreateDTO> changes, Long expectedVersion) {
+        int attempts = expectedVersion == null ? MAX_UPDATE_ATTEMPTS : 1;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return updateTransaction.execute(status -> applyUpdate(studentId, changes, expectedVersion));
+            } catch (StudentVersionMismatchException e) {
+                // The stale copy may have come from the cache (another node's write not synced yet), so the
+                // client's next read goes to the database; no transaction here, so it's immediate
+                cache(CacheConfig.STUDENTS).evict(studentId);
+                entityManager.getEntityManagerFactory().getCache().evict(Student.class, studentId);
+                throw e;
+            } catch (OptimisticLockingFailureException e) {
+                // Likewise for the second-level cache, which another node's write may have left stale
+                // until its change event arrives; the retry then loads the student from the database
+                entityManager.getEntityManagerFactory().getCache().evict(Student.class, studentId);
+                if (attempt >= attempts) {
+                    throw e;
+                }
+                backOff(attempt, e);
+            }
+        }
+    }
+
+    private StudentDTO applyUpdate(Long studentId, Function<Student, StudentCreateDTO> changes, Long expectedVersion) {
         Student existingStudent = studentRepository.findById(studentId)
                 .orElseThrow(() -> new StudentNotFoundException("Student not found with ID: " + studentId));
+        if (expectedVersion != null && !expectedVersion.equals(existingStudent.getVersion())) {
+            throw new StudentVersionMismatchException("Student " + studentId + " was modified: expected version "
+                    + expectedVersion + " but found " + existingStudent.getVersion(), existingStudent.getVersion());
+        }
+        StudentDTO previous = convertToDTO(existingStudent);
+        StudentCreateDTO studentCreateDTO = changes.apply(existingStudent);
 
-        // Check if email is being changed and if new email already exists
-        if (!existingStudent.getEmail().equals(studentCreateDTO.getEmail()) &&
-            studentRepository.existsByEmail(studentCreateDTO.getEmail())) {
-            throw new EmailAlreadyExistsException("Email already exists: " + studentCreateDTO.getEmail());
+        // Identical values: no UPDATE, no new version or timestamp, nothing to evict or announce
+        if (Objects.equals(previous.getFirstName(), studentCreateDTO.getFirstName())
+                && Objects.equals(previous.getLastName(), studentCreateDTO.getLastName())
+                && Objects.equals(previous.getEmail(), studentCreateDTO.getEmail())
+                && Objects.equals(previous.getCourse(), studentCreateDTO.getCourse())
+                && Objects.equals(previous.getAge(), studentCreateDTO.getAge())) {
+            return previous;
         }
 
         existingStudent.setFirstName(studentCreateDTO.getFirstName());
@@ -77,58 +360,240 @@ public class StudentServiceImpl implements StudentService {
         existingStudent.setCourse(studentCreateDTO.getCourse());
         existingStudent.setAge(studentCreateDTO.getAge());
 
-        Student updatedStudent = studentRepository.save(existingStudent);
-        return convertToDTO(updatedStudent);
+        // Flush so the new lastModifiedDate and version are in the returned (and cached) DTO; the version check
+        // and the unique email constraint run here, so a concurrent update or a taken email fails before
+        // anything is cached
+        emailFilter.add(existingStudent.getEmail());
+        Student updatedStudent = saveAndFlush(existingStudent);
+        StudentDTO updated = convertToDTO(updatedStudent);
+
+        // Course lists hold the student's details, so both the old and new course go stale
+        cacheStudent(updated);
+        evictCourseList(previous.getCourse());
+        evictCourseList(updated.getCourse());
+        eventPublisher.publishEvent(StudentChangedEvent.updated(previous, updated));
+        return updated;
+    }
+
+    private StudentCreateDTO mergePatch(Student current, Map<String, Object> patch) {
+        StudentCreateDTO merged = new StudentCreateDTO(current.getFirstName(), current.getLastName(),
+                current.getEmail(), current.getCourse(), current.getAge());
+        for (Map.Entry<String, Object> field : patch.entrySet()) {
+            Object value = field.getValue();
+            if (value == null) {
+                throw new IllegalArgumentException("Field cannot be removed: " + field.getKey());
+            }
+            switch (field.getKey()) {
+                case "firstName" -> merged.setFirstName(patchText(field.getKey(), value));
+                case "lastName" -> merged.setLastName(patchText(field.getKey(), value));
+                case "email" -> merged.setEmail(patchText(field.getKey(), value));
+                case "course" -> merged.setCourse(patchText(field.getKey(), value));
+                case "age" -> {
+                    if (!(value instanceof Integer age)) {
+                        throw new IllegalArgumentException("Field must be a whole number: age");
+                    }
+                    merged.setAge(age);
+                }
+                default -> throw new IllegalArgumentException("Unknown or read-only field: " + field.getKey());
+            }
+        }
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<StudentCreateDTO> violation : validator.validate(merged)) {
+            errors.add(violation.getMessage());
+        }
+        if (!errors.isEmpty()) {
+            errors.sort(null);
+            throw new IllegalArgumentException(String.join("; ", errors));
+        }
+        return merged;
+    }
+
+    private static String patchText(String field, Object value) {
+        if (!(value instanceof String text)) {
+            throw new IllegalArgumentException("Field must be a string: " + field);
+        }
+        return text;
+    }
+
+    private Student saveAndFlush(Student student) {
+        try {
+            return studentRepository.saveAndFlush(student);
+        } catch (DataIntegrityViolationException e) {
+            if (violatesUniqueEmail(e, student.getEmail())) {
+                throw new EmailAlreadyExistsException("Email already exists: " + student.getEmail());
+            }
+            throw e;
+        }
+    }
+
+    // Hibernate reports the violated constraint by name (MySQL prefixes it with the table, H2 appends its index).
+    // Databases adopted through the Flyway baseline skipped V1 and keep the name Hibernate generated for the
+    // key, so any other duplicate-key error is confirmed by looking the email up.
+    private boolean violatesUniqueEmail(DataIntegrityViolationException e, String email) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraintName = violation.getConstraintName();
+                if (constraintName != null && constraintName.toLowerCase(Locale.ROOT).contains(UNIQUE_EMAIL_CONSTRAINT)) {
+                    return true;
+                }
+                return isDuplicateKey(violation.getSQLException()) && studentRepository.existsByEmailWithoutFlush(email);
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDuplicateKey(SQLException e) {
+        return e != null && (e.getErrorCode() == MYSQL_DUPLICATE_KEY || DUPLICATE_KEY_STATE.equals(e.getSQLState()));
+    }
+
+    // Jittered, growing pause so retrying writers don't collide again in lockstep
+    private static void backOff(int attempt, OptimisticLockingFailureException conflict) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(attempt * 5L, attempt * 20L));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
     }
 
     @Override
     public void deleteStudent(Long studentId) {
-        if (!studentRepository.existsById(studentId)) {
-            throw new StudentNotFoundException("Student not found with ID: " + studentId);
-        }
-        studentRepository.deleteById(studentId);
+        // Load the student rather than just checking existence, so we know which course entries to evict
+        Student student = studentRepository.findById(studentId)
+                .orElseThrow(() -> new StudentNotFoundException("Student not found with ID: " + studentId));
+        studentRepository.delete(student);
+
+        cache(CacheConfig.STUDENTS).evict(studentId);
+        evictCourseList(student.getCourse());
+        eventPublisher.publishEvent(StudentChangedEvent.deleted(convertToDTO(student)));
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.STUDENTS_BY_COURSE,
+               key = "T(com.example.studentms.config.CacheConfig).courseKey(#course)")
     public List<StudentDTO> getStudentsByCourse(String course) {
-        return studentRepository.findByCourseIgnoreCase(course)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return studentRepository.findDTOsByCourse(course);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @CachePut(cacheNames = CacheConfig.STUDENTS_BY_COURSE,
+              key = "T(com.example.studentms.config.CacheConfig).courseKey(#course)")
+    public List<StudentDTO> reloadStudentsByCourse(String course) {
+        return studentRepository.findDTOsByCourse(course);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StudentListVersionDTO getCourseListVersion(String course) {
+        return studentRepository.findListVersionByCourse(course);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<StudentDTO> getStudentsByAgeRange(Integer minAge, Integer maxAge) {
-        return studentRepository.findByAgeBetween(minAge, maxAge)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return studentRepository.findDTOsByAgeBetween(minAge, maxAge);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StudentSearchResultDTO searchStudents(String query, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        int offset = (int) Math.min((long) pageNumber * pageSize, Integer.MAX_VALUE);
+
+        // Ranking happens in the in-memory index; one extra ID tells whether another page follows
+        List<Long> studentIds = studentSearch.search(query, offset, pageSize + 1);
+        boolean hasMore = studentIds.size() > pageSize;
+        if (hasMore) {
+            studentIds = studentIds.subList(0, pageSize);
+        }
+        if (studentIds.isEmpty()) {
+            return new StudentSearchResultDTO(query, List.of(), pageNumber, pageSize, false);
+        }
+
+        Map<Long, StudentDTO> studentsById = new HashMap<>();
+        for (StudentDTO student : studentRepository.findDTOsByIds(studentIds)) {
+            studentsById.put(student.getStudentId(), student);
+        }
+        // Keep the ranked order; a student deleted since the search ran is simply left out
+        List<StudentDTO> students = new ArrayList<>(studentIds.size());
+        for (Long studentId : studentIds) {
+            StudentDTO student = studentsById.get(studentId);
+            if (student != null) {
+                students.add(student);
+            }
+        }
+        return new StudentSearchResultDTO(query, students, pageNumber, pageSize, hasMore);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<String> getAllCourses() {
+        // Served from the in-memory statistics once they are built; the query only runs during startup
+        if (courseStatistics.isReady()) {
+            return courseStatistics.getCourses();
+        }
         return studentRepository.findAllDistinctCourses();
     }
 
     @Override
     @Transactional(readOnly = true)
     public Long getStudentCountByCourse(String course) {
+        if (courseStatistics.isReady()) {
+            return courseStatistics.getCount(course);
+        }
         return studentRepository.countStudentsByCourse(course);
     }
 
+    @Override
+    public CourseStatsDTO getCourseStatistics(String course) {
+        return courseStatistics.getStatistics(course);
+    }
+
+    @Override
+    public List<CourseStatsDTO> getAllCourseStatistics() {
+        return courseStatistics.getAllStatistics();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
-        return studentRepository.existsByEmail(email);
+        return emailFilter.mightContain(email) && studentRepository.existsByEmail(email);
+    }
+
+    private void evictCourseList(String course) {
+        cache(CacheConfig.STUDENTS_BY_COURSE).evict(CacheConfig.courseKey(course));
+    }
+
+    // Caches a student unless the cache already holds a newer version of it, and returns the cached one;
+    // atomic per student, so a put that lands late (a read racing an update, or commits out of order) loses
+    private StudentDTO cacheStudent(StudentDTO student) {
+        @SuppressWarnings("unchecked")
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> students =
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache(CacheConfig.STUDENTS).getNativeCache();
+        return (StudentDTO) students.asMap().merge(student.getStudentId(), student,
+                (cached, loaded) -> isNewer((StudentDTO) cached, (StudentDTO) loaded) ? cached : loaded);
+    }
+
+    private static boolean isNewer(StudentDTO student, StudentDTO other) {
+        return student.getVersion() != null && other.getVersion() != null && student.getVersion() > other.getVersion();
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + name);
+        }
+        return cache;
     }
 
     // Helper method to convert Student entity to StudentDTO
     // This method is used to avoid code duplication
     // when converting entities to DTOs in multiple service methods
-    private StudentDTO convertToDTO(Student student) {
+    // (package-private so StudentMappingBenchmark can measure it)
+    static StudentDTO convertToDTO(Student student) {
         return new StudentDTO(
             student.getStudentId(),
             student.getFirstName(),
@@ -137,7 +602,8 @@ public class StudentServiceImpl implements StudentService {
             student.getCourse(),
             student.getAge(),
             student.getRegistrationDate(),
-            student.getLastModifiedDate()
+            student.getLastModifiedDate(),
+            student.getVersion()
         );
     }
 }
\ No newline at end of file
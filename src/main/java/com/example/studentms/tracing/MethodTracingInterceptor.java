@@ -0,0 +1,89 @@
+package com.example.studentms.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Wraps a controller, service or repository call in a span named after "<Class>.<method>"
+// Collection results record their size as "studentms.rows"; asynchronous results end the span when
+// they complete rather than when the method returns. Method spans only extend a trace that is already
+// recorded (an HTTP request that head sampling kept); otherwise the call runs untouched, so unsampled
+// requests and calls outside any request pay only for the current-span lookup.
+public class MethodTracingInterceptor implements MethodInterceptor {
+
+    private static final String APPLICATION_PACKAGE = "com.example.studentms.";
+
+    // Resolved on first use: the interceptor is created with the advisors, before the tracer
+    private final ObjectProvider<Tracer> tracerProvider;
+    private volatile Tracer tracer;
+    private final Map<Class<?>, String> ownerNames = new ConcurrentHashMap<>();
+
+    public MethodTracingInterceptor(ObjectProvider<Tracer> tracerProvider) {
+        this.tracerProvider = tracerProvider;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Tracer tracer = tracer();
+        Span parent = tracer.currentSpan();
+        if (parent == null || !Boolean.TRUE.equals(parent.context().sampled())) {
+            return invocation.proceed();
+        }
+
+        Object target = invocation.getThis();
+        String owner = ownerNames.computeIfAbsent(target.getClass(), type -> ownerName(target));
+        Span span = tracer.nextSpan().name(owner + "." + invocation.getMethod().getName()).start();
+        Object result;
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            span.end();
+            throw e;
+        }
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, error) -> {
+                if (error != null) {
+                    span.error(error);
+                }
+                span.end();
+            });
+            return result;
+        }
+        if (result instanceof Collection<?> rows) {
+            span.tag("studentms.rows", rows.size());
+        }
+        span.end();
+        return result;
+    }
+
+    private Tracer tracer() {
+        Tracer current = tracer;
+        if (current == null) {
+            current = tracerProvider.getIfAvailable(() -> Tracer.NOOP);
+            tracer = current;
+        }
+        return current;
+    }
+
+    // Spring Data repositories are proxies of their interface; anything else is named after its class
+    private static String ownerName(Object target) {
+        if (target instanceof Repository<?, ?>) {
+            for (Class<?> type : ClassUtils.getAllInterfaces(target)) {
+                if (type.getName().startsWith(APPLICATION_PACKAGE)) {
+                    return type.getSimpleName();
+                }
+            }
+        }
+        return ClassUtils.getUserClass(target).getSimpleName();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.studentms.tracing;
+
+import org.reactivestreams.Publisher;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.data.repository.Repository;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+// Public methods of the controllers and services, and the query methods of the Spring Data repositories
+// Matching is static (decided once per method when the proxy is built), so calls pay nothing for it.
+public class TracedMethodsPointcut extends StaticMethodMatcherPointcut {
+
+    private static final String CONTROLLER_PACKAGE = "com.example.studentms.controller.";
+    private static final String SERVICE_PACKAGE = "com.example.studentms.service.";
+
+    public TracedMethodsPointcut() {
+        setClassFilter(new TracedClassFilter());
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        // Reactive methods return before their work runs, so a span would only time the assembly
+        // (the HTTP server observation still covers the request)
+        if (Publisher.class.isAssignableFrom(method.getReturnType())) {
+            return false;
+        }
+        if (Repository.class.isAssignableFrom(targetClass)) {
+            return Repository.class.isAssignableFrom(method.getDeclaringClass());
+        }
+        return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+    }
+
+    private static final class TracedClassFilter implements ClassFilter {
+
+        @Override
+        public boolean matches(Class<?> type) {
+            String name = type.getName();
+            return name.startsWith(CONTROLLER_PACKAGE) || name.startsWith(SERVICE_PACKAGE)
+                    || Repository.class.isAssignableFrom(type);
+        }
+    }
+}
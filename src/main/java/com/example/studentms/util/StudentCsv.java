@@ -0,0 +1,147 @@
+package com.example.studentms.util;
+
+import com.example.studentms.dto.StudentCreateDTO;
+import com.example.studentms.dto.StudentDTO;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+//
+// Helper for reading and writing students as CSV (RFC 4180 quoting)
+// Used by the streaming export so each row can be written as soon as it is read,
+// and by the bulk import to turn an uploaded file into StudentCreateDTOs
+//
+public final class StudentCsv {
+
+    public static final String HEADER =
+            "studentId,firstName,lastName,email,course,age,registrationDate,lastModifiedDate";
+
+    private static final String[] IMPORT_COLUMNS = {"firstName", "lastName", "email", "course", "age"};
+
+    private StudentCsv() {}
+
+    // Parse an import file; the header row names the columns, so their order doesn't matter
+    public static List<StudentCreateDTO> parse(Reader reader) throws IOException {
+        BufferedReader in = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        List<StudentCreateDTO> students = new ArrayList<>();
+
+        List<String> header = readRecord(in);
+        if (header == null) {
+            return students;
+        }
+        int[] columns = new int[IMPORT_COLUMNS.length];
+        for (int i = 0; i < IMPORT_COLUMNS.length; i++) {
+            columns[i] = indexOf(header, IMPORT_COLUMNS[i]);
+            if (columns[i] < 0) {
+                throw new IllegalArgumentException("Missing CSV column: " + IMPORT_COLUMNS[i]);
+            }
+        }
+
+        List<String> record;
+        while ((record = readRecord(in)) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue; // blank line
+            }
+            students.add(new StudentCreateDTO(
+                field(record, columns[0]),
+                field(record, columns[1]),
+                field(record, columns[2]),
+                field(record, columns[3]),
+                parseAge(field(record, columns[4]))
+            ));
+        }
+        return students;
+    }
+
+    public static String toRow(StudentDTO student) {
+        return String.join(",",
+                valueOf(student.getStudentId()),
+                escape(student.getFirstName()),
+                escape(student.getLastName()),
+                escape(student.getEmail()),
+                escape(student.getCourse()),
+                valueOf(student.getAge()),
+                valueOf(student.getRegistrationDate()),
+                valueOf(student.getLastModifiedDate()));
+    }
+
+    // Quote a field only when it contains a separator, quote or line break
+    public static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    // Read one record, honouring quoted fields that contain separators, quotes or line breaks
+    private static List<String> readRecord(BufferedReader in) throws IOException {
+        int c = in.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    in.mark(1);
+                    if (in.read() == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        in.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = in.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static int indexOf(List<String> header, String column) {
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i).trim().toLowerCase(Locale.ROOT).equals(column.toLowerCase(Locale.ROOT))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String field(List<String> record, int index) {
+        return index < record.size() ? record.get(index).trim() : null;
+    }
+
+    // An unparseable age is left null so validation reports it like a missing one
+    private static Integer parseAge(String value) {
+        try {
+            return value == null || value.isEmpty() ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String valueOf(Object value) {
+        return value == null ? "" : value.toString();
+    }
+}
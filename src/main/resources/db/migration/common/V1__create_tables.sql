@@ -0,0 +1,23 @@
+-- Baseline schema, as previously created from the JPA entities.
+-- Existing databases are baselined at version 1 (spring.flyway.baseline-on-migrate) and skip this script.
+
+CREATE TABLE admins (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_admins_email UNIQUE (email)
+);
+
+CREATE TABLE students (
+    student_id BIGINT NOT NULL,
+    first_name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    course VARCHAR(255) NOT NULL,
+    age INT NOT NULL,
+    registration_date DATETIME(6) NOT NULL,
+    last_modified_date DATETIME(6) NOT NULL,
+    PRIMARY KEY (student_id),
+    CONSTRAINT uk_students_email UNIQUE (email)
+);
@@ -0,0 +1,25 @@
+-- Indexes for the StudentRepository predicates.
+-- Case-insensitive lookups compared LOWER()/UPPER() of the column, which no plain index can serve,
+-- so the lower-cased values are stored in *_key columns (maintained by the Student entity) and indexed.
+
+ALTER TABLE students ADD COLUMN course_key VARCHAR(255);
+ALTER TABLE students ADD COLUMN first_name_key VARCHAR(255);
+ALTER TABLE students ADD COLUMN last_name_key VARCHAR(255);
+
+UPDATE students
+SET course_key = LOWER(course),
+    first_name_key = LOWER(first_name),
+    last_name_key = LOWER(last_name);
+
+ALTER TABLE students MODIFY course_key VARCHAR(255) NOT NULL;
+ALTER TABLE students MODIFY first_name_key VARCHAR(255) NOT NULL;
+ALTER TABLE students MODIFY last_name_key VARCHAR(255) NOT NULL;
+
+-- course equality (by-course listing, counts) and course + minimum age
+CREATE INDEX idx_students_course_key_age ON students (course_key, age);
+
+-- age range
+CREATE INDEX idx_students_age ON students (age);
+
+-- first + last name lookup
+CREATE INDEX idx_students_name_key ON students (last_name_key, first_name_key);
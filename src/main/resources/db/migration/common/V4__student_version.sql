@@ -0,0 +1,5 @@
+-- Optimistic locking column for Student (@Version).
+-- Hibernate adds "AND version = ?" to every UPDATE/DELETE and increments it, so concurrent writers
+-- are detected instead of overwriting each other. Existing rows start at version 0.
+
+ALTER TABLE students ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,25 @@
+-- Transactional outbox of committed changes (see ChangeEventOutbox), polled by every node to keep its
+-- local caches coherent. Sequence numbers are reserved from the single-row change_event_sequence counter
+-- right before commit; its row lock orders the writing transactions, so events become visible in
+-- sequence order and without gaps. Old events are pruned after studentms.change-events.retention.
+
+CREATE TABLE change_events (
+    sequence_number BIGINT NOT NULL,
+    entity_type VARCHAR(16) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    change_type VARCHAR(16) NOT NULL,
+    payload TEXT NOT NULL,
+    origin VARCHAR(64) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (sequence_number)
+);
+
+CREATE INDEX idx_change_events_created_at ON change_events (created_at);
+
+CREATE TABLE change_event_sequence (
+    id INT NOT NULL,
+    last_value BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO change_event_sequence (id, last_value) VALUES (1, 0);
@@ -0,0 +1,3 @@
+-- Pooled sequence for Student IDs (allocationSize = 50 in the entity)
+
+CREATE SEQUENCE IF NOT EXISTS students_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,11 @@
+-- MySQL has no sequences: Hibernate emulates students_seq with a single-row table.
+-- Seeded past the highest existing ID so the pooled generator never hands out a used one; databases that
+-- already got the table from the former schema-mysql.sql keep it as it is.
+
+CREATE TABLE IF NOT EXISTS students_seq (
+    next_val BIGINT
+);
+
+INSERT INTO students_seq (next_val)
+SELECT COALESCE(MAX(student_id), 0) + 51 FROM students
+WHERE NOT EXISTS (SELECT 1 FROM students_seq);
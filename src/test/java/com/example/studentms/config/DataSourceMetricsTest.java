@@ -0,0 +1,75 @@
+package com.example.studentms.config;
+
+import com.example.studentms.repository.StudentRepository;
+import com.example.studentms.security.AdminTokenService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Pool and repository metrics of the fully configured application (Hikari on the H2 test database)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DataSourceMetricsTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private AdminTokenService tokenService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testRepositoryInvocation_IsTimed() {
+        // When
+        studentRepository.count();
+
+        // Then
+        Timer timer = meterRegistry.get("spring.data.repository.invocations")
+                .tag("repository", "StudentRepository")
+                .tag("method", "count")
+                .tag("state", "SUCCESS")
+                .timer();
+        assertTrue(timer.count() >= 1);
+    }
+
+    @Test
+    void testConnectionPool_PublishesMetrics() {
+        // When
+        studentRepository.count();
+
+        // Then
+        assertTrue(meterRegistry.get("hikaricp.connections.acquire").tag("pool", "studentms").timer().count() >= 1);
+        assertEquals(20, meterRegistry.get("hikaricp.connections.max").tag("pool", "studentms").gauge().value());
+        assertNotNull(meterRegistry.get("hikaricp.connections.pending").tag("pool", "studentms").gauge());
+    }
+
+    @Test
+    void testMetricsEndpoint_RequiresAdminToken() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/actuator/metrics/hikaricp.connections.active"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics/hikaricp.connections.active")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.issueToken("admin@test.com")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("hikaricp.connections.active"));
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+}
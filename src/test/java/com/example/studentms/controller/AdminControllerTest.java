@@ -1,21 +1,35 @@
 package com.example.studentms.controller;
 
 import com.example.studentms.dto.AdminLoginDTO;
+import com.example.studentms.dto.CacheStatsDTO;
+import com.example.studentms.metrics.StudentMetrics;
+import com.example.studentms.security.AdminTokenService;
 import com.example.studentms.service.AdminService;
+import com.example.studentms.service.CacheStatisticsService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(AdminController.class)
+@Import({AdminTokenService.class, StudentMetrics.class, SimpleMeterRegistry.class})
 class AdminControllerTest {
 
     @Autowired
@@ -24,9 +38,23 @@ class AdminControllerTest {
     @MockBean
     private AdminService adminService;
 
+    @MockBean
+    private CacheStatisticsService cacheStatisticsService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private AdminTokenService adminTokenService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Helper method to create the Authorization header of a logged-in admin
+    private String adminToken() {
+        return "Bearer " + adminTokenService.issueToken("admin@test.com");
+    }
+
     @Test
     void testCreateAdmin_Success() throws Exception {
         // Given
@@ -62,14 +90,38 @@ class AdminControllerTest {
     void testLogin_Success() throws Exception {
         // Given
         AdminLoginDTO loginDTO = new AdminLoginDTO("admin@test.com", "password123");
-        when(adminService.validateAdmin(any(AdminLoginDTO.class))).thenReturn(true);
+        when(adminService.validateAdmin(any(AdminLoginDTO.class))).thenReturn(CompletableFuture.completedFuture(true));
 
         // When & Then
-        mockMvc.perform(post("/api/admin/login")
+        MvcResult result = mockMvc.perform(post("/api/admin/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(loginDTO)))
+                .andExpect(request().asyncStarted())
+                .andExpect(request().sessionAttributeDoesNotExist("adminEmail"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("Login successful"))
+                .andExpect(jsonPath("$.email").value("admin@test.com"))
+                .andExpect(jsonPath("$.token").exists());
+    }
+
+    @Test
+    void testLogin_TokenAuthenticatesLaterRequests() throws Exception {
+        // Given
+        AdminLoginDTO loginDTO = new AdminLoginDTO("admin@test.com", "password123");
+        when(adminService.validateAdmin(any(AdminLoginDTO.class))).thenReturn(CompletableFuture.completedFuture(true));
+        MvcResult result = mockMvc.perform(post("/api/admin/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginDTO)))
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result)).andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readTree(body).get("token").asText();
+
+        // When & Then
+        mockMvc.perform(get("/api/admin/check").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
                 .andExpect(jsonPath("$.email").value("admin@test.com"));
     }
 
@@ -77,24 +129,45 @@ class AdminControllerTest {
     void testLogin_InvalidCredentials() throws Exception {
         // Given
         AdminLoginDTO loginDTO = new AdminLoginDTO("admin@test.com", "wrongpassword");
-        when(adminService.validateAdmin(any(AdminLoginDTO.class))).thenReturn(false);
+        when(adminService.validateAdmin(any(AdminLoginDTO.class))).thenReturn(CompletableFuture.completedFuture(false));
 
         // When & Then
-        mockMvc.perform(post("/api/admin/login")
+        MvcResult result = mockMvc.perform(post("/api/admin/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(loginDTO)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.error").value("Invalid email or password"));
+        assertEquals(1.0, meterRegistry.get("studentms.admin.logins").tag("outcome", "failure").counter().count());
+    }
+
+    @Test
+    void testLogin_HashingSaturated() throws Exception {
+        // Given
+        AdminLoginDTO loginDTO = new AdminLoginDTO("admin@test.com", "password123");
+        when(adminService.validateAdmin(any(AdminLoginDTO.class))).thenThrow(new RejectedExecutionException("queue full"));
+
+        // When & Then
+        MvcResult result = mockMvc.perform(post("/api/admin/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginDTO)))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
     }
 
     @Test
     void testCheckLogin_LoggedIn() throws Exception {
         // Given
-        MockHttpSession session = new MockHttpSession();
-        session.setAttribute("adminEmail", "admin@test.com");
+        String token = adminToken();
 
         // When & Then
-        mockMvc.perform(get("/api/admin/check").session(session))
+        mockMvc.perform(get("/api/admin/check").header(HttpHeaders.AUTHORIZATION, token))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("Admin is logged in"))
                 .andExpect(jsonPath("$.email").value("admin@test.com"));
@@ -105,18 +178,40 @@ class AdminControllerTest {
         // When & Then
         mockMvc.perform(get("/api/admin/check"))
                 .andExpect(status().isUnauthorized())
-                .andExpect(jsonPath("$.error").value("Not logged in"));
+                .andExpect(jsonPath("$.error").value("Admin authentication required"));
     }
 
     @Test
     void testLogout() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/admin/logout"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Logout successful"));
+    }
+
+    @Test
+    void testGetCacheStatistics() throws Exception {
         // Given
-        MockHttpSession session = new MockHttpSession();
-        session.setAttribute("adminEmail", "admin@test.com");
+        String token = adminToken();
+        when(cacheStatisticsService.getCacheStatistics()).thenReturn(List.of(
+                new CacheStatsDTO("students", 42, 90, 10, 0.9, 3)));
 
         // When & Then
-        mockMvc.perform(post("/api/admin/logout").session(session))
+        mockMvc.perform(get("/api/admin/cache/stats").header(HttpHeaders.AUTHORIZATION, token))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.message").value("Logout successful"));
+                .andExpect(jsonPath("$[0].name").value("students"))
+                .andExpect(jsonPath("$[0].size").value(42))
+                .andExpect(jsonPath("$[0].hitRate").value(0.9))
+                .andExpect(jsonPath("$[0].evictionCount").value(3));
+    }
+
+    @Test
+    void testGetCacheStatistics_Unauthorized() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/admin/cache/stats"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.error").value("Admin authentication required"));
+
+        verify(cacheStatisticsService, never()).getCacheStatistics();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,139 @@
+package com.example.studentms.controller;
+
+import com.example.studentms.dto.StudentCreateDTO;
+import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.security.AdminTokenService;
+import com.example.studentms.service.StudentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The reactive runtime on Netty, reading over R2DBC the H2 test database that the JPA side writes
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+        "spring.main.web-application-type=reactive",
+        "spring.r2dbc.url=r2dbc:h2:mem:///studentms?options=MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"})
+@ActiveProfiles({"test", "reactive"})
+class ReactiveStudentControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private AdminTokenService adminTokenService;
+
+    private final List<StudentDTO> students = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        students.add(studentService.createStudent(new StudentCreateDTO("Ada", "Reactive", "ada@reactive.test", "Reactive Studies", 30)));
+        students.add(studentService.createStudent(new StudentCreateDTO("Alan", "Reactive", "alan@reactive.test", "Reactive Studies", 41)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        students.forEach(student -> studentService.deleteStudent(student.getStudentId()));
+    }
+
+    @Test
+    void testGetStudentById() {
+        // Given
+        StudentDTO ada = students.get(0);
+
+        // When & Then
+        StudentDTO result = get("/api/students/" + ada.getStudentId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"" + ada.getVersion() + "\"")
+                .expectBody(StudentDTO.class)
+                .returnResult().getResponseBody();
+        assertEquals("ada@reactive.test", result.getEmail());
+        assertEquals(ada.getRegistrationDate(), result.getRegistrationDate());
+    }
+
+    @Test
+    void testGetStudentById_NotFound() {
+        // When & Then
+        get("/api/students/" + Long.MAX_VALUE)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.error").exists();
+    }
+
+    @Test
+    void testGetStudentsByCourse_StreamsNdjson() {
+        // When & Then
+        List<StudentDTO> result = get("/api/students/course/reactive studies")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(StudentDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+        assertEquals(List.of("Ada", "Alan"), result.stream().map(StudentDTO::getFirstName).toList());
+    }
+
+    @Test
+    void testReadEndpoints() {
+        // When & Then
+        get("/api/students/age?minAge=40&maxAge=41")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[?(@.email == 'alan@reactive.test')]").exists()
+                .jsonPath("$[?(@.email == 'ada@reactive.test')]").doesNotExist();
+        get("/api/students/course/Reactive Studies/count")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Long.class).isEqualTo(2L);
+        get("/api/students/email/exists?email=ada@reactive.test")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Boolean.class).isEqualTo(true);
+        get("/api/students/courses")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[?(@ == 'Reactive Studies')]").exists();
+        get("/api/students/page?limit=1&after=" + (students.get(0).getStudentId() - 1))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.students[0].studentId").isEqualTo(students.get(0).getStudentId())
+                .jsonPath("$.nextCursor").isEqualTo(students.get(0).getStudentId());
+    }
+
+    @Test
+    void testRequiresAdminToken() {
+        // When & Then: no token, and the servlet-only write endpoints are not served here
+        webTestClient.get().uri("/api/students")
+                .exchange()
+                .expectStatus().isUnauthorized();
+        get("/api/students")
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.delete().uri("/api/students/" + students.get(0).getStudentId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminTokenService.issueToken("admin@test.com"))
+                .exchange()
+                .expectStatus().is4xxClientError();
+    }
+
+    private WebTestClient.RequestHeadersSpec<?> get(String uri) {
+        return webTestClient.get().uri(uri)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminTokenService.issueToken("admin@test.com"));
+    }
+}
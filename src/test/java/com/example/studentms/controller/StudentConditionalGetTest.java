@@ -0,0 +1,116 @@
+package com.example.studentms.controller;
+
+import com.example.studentms.dto.StudentCreateDTO;
+import com.example.studentms.security.AdminTokenService;
+import com.example.studentms.service.StudentService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// Clients polling a course listing with If-None-Match, against the fully configured application (H2 test database)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StudentConditionalGetTest {
+
+    private static final String COURSE = "Polling Physics";
+    private static final int POLLS = 50;
+    private static final int POLLS_BETWEEN_CHANGES = 10;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private AdminTokenService tokenService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testPollingWorkload_UnchangedListingsAreNotSentAgain() throws Exception {
+        // Given - A course of 20 students
+        List<Long> studentIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            studentIds.add(studentService.createStudent(
+                    new StudentCreateDTO("Polled" + i, "Student", "polled" + i + "@test.com", COURSE, 20)).getStudentId());
+        }
+        double notModifiedBefore = notModifiedCount();
+
+        // When - Polls sending back the ETag of the last full response; the listing changes every 10 polls
+        // (update, creation, deletion, update)
+        String eTag = null;
+        String body = null;
+        int notModified = 0;
+        long bytesSent = 0;
+        long bytesSaved = 0;
+        for (int poll = 0; poll < POLLS; poll++) {
+            if (poll > 0 && poll % POLLS_BETWEEN_CHANGES == 0) {
+                changeListing(poll / POLLS_BETWEEN_CHANGES, studentIds);
+            }
+            MockHttpServletRequestBuilder request = get("/api/students/course/{course}", COURSE)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.issueToken("admin@test.com"));
+            if (eTag != null) {
+                request.header(HttpHeaders.IF_NONE_MATCH, eTag);
+            }
+            MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+
+            bytesSent += response.getContentAsByteArray().length;
+            if (response.getStatus() == 304) {
+                notModified++;
+                bytesSaved += body.length();
+            } else {
+                assertEquals(200, response.getStatus());
+                assertNotEquals(eTag, response.getHeader(HttpHeaders.ETAG));
+                eTag = response.getHeader(HttpHeaders.ETAG);
+                body = response.getContentAsString();
+            }
+        }
+
+        // Then - Only the first poll and the one after each change got the listing
+        int changes = (POLLS - 1) / POLLS_BETWEEN_CHANGES;
+        assertEquals(POLLS - 1 - changes, notModified);
+        assertTrue((double) notModified / POLLS >= 0.9);
+        assertTrue(bytesSaved > 5 * bytesSent, "sent " + bytesSent + " bytes, saved " + bytesSaved);
+        assertEquals(notModified, notModifiedCount() - notModifiedBefore);
+        assertTrue(body.contains("Repolled"), body);
+        assertEquals(20, studentService.getStudentsByCourse(COURSE).size());
+
+        studentIds.forEach(studentService::deleteStudent);
+    }
+
+    private void changeListing(int change, List<Long> studentIds) {
+        switch (change) {
+            case 1, 4 -> {
+                Long studentId = studentIds.get(change);
+                String email = studentService.getStudentById(studentId).getEmail();
+                studentService.updateStudent(studentId, new StudentCreateDTO("Repolled", "Student", email, COURSE, 21), null);
+            }
+            case 2 -> studentIds.add(studentService.createStudent(
+                    new StudentCreateDTO("Added", "Student", "polled-added@test.com", COURSE, 20)).getStudentId());
+            case 3 -> studentService.deleteStudent(studentIds.remove(0));
+            default -> throw new IllegalArgumentException("No change " + change);
+        }
+    }
+
+    private double notModifiedCount() {
+        Counter counter = meterRegistry.find("studentms.students.not.modified").tag("endpoint", "course").counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -1,27 +1,54 @@
 package com.example.studentms.controller;
 
+import com.example.studentms.dto.CourseStatsDTO;
+import com.example.studentms.dto.StudentChangeDTO;
+import com.example.studentms.dto.StudentChangeFeedDTO;
 import com.example.studentms.dto.StudentCreateDTO;
 import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.dto.StudentImportReportDTO;
+import com.example.studentms.dto.StudentImportRowDTO;
+import com.example.studentms.dto.StudentListVersionDTO;
+import com.example.studentms.dto.StudentPageDTO;
+import com.example.studentms.dto.StudentSearchResultDTO;
+import com.example.studentms.exception.ChangeFeedExpiredException;
+import com.example.studentms.exception.EmailAlreadyExistsException;
+import com.example.studentms.exception.StudentVersionMismatchException;
+import com.example.studentms.metrics.StudentMetrics;
+import com.example.studentms.model.Student;
+import com.example.studentms.security.AdminTokenService;
+import com.example.studentms.service.StudentChangeFeedService;
 import com.example.studentms.service.StudentService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.MediaType;
-import org.springframework.mock.web.MockHttpSession;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(StudentController.class)
+@Import({AdminTokenService.class, StudentMetrics.class, SimpleMeterRegistry.class})
 class StudentControllerTest {
 
     @Autowired
@@ -30,20 +57,24 @@ class StudentControllerTest {
     @MockBean
     private StudentService studentService;
 
+    @MockBean
+    private StudentChangeFeedService changeFeedService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
-    // Helper method to create admin session
-    private MockHttpSession createAdminSession() {
-        MockHttpSession session = new MockHttpSession();
-        session.setAttribute("adminEmail", "admin@test.com");
-        return session;
+    @Autowired
+    private AdminTokenService adminTokenService;
+
+    // Helper method to create the Authorization header of a logged-in admin
+    private String adminToken() {
+        return "Bearer " + adminTokenService.issueToken("admin@test.com");
     }
 
     @Test
     void testCreateStudent_Success() throws Exception {
         // Given
-        MockHttpSession session = createAdminSession();
+        String token = adminToken();
         StudentCreateDTO createDTO = new StudentCreateDTO("John", "Doe", "john@test.com", "Computer Science", 20);
         
         StudentDTO responseDTO = new StudentDTO();
@@ -60,7 +91,7 @@ class StudentControllerTest {
 
         // When & Then
         mockMvc.perform(post("/api/students")
-                .session(session)
+                .header(HttpHeaders.AUTHORIZATION, token)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(createDTO)))
                 .andExpect(status().isCreated())
@@ -72,9 +103,27 @@ class StudentControllerTest {
         verify(studentService).createStudent(any(StudentCreateDTO.class));
     }
 
+    @Test
+    void testCreateStudent_EmailAlreadyExists() throws Exception {
+        // Given
+        String token = adminToken();
+        StudentCreateDTO createDTO = new StudentCreateDTO("John", "Doe", "john@test.com", "Computer Science", 20);
+
+        when(studentService.createStudent(any(StudentCreateDTO.class)))
+                .thenThrow(new EmailAlreadyExistsException("Email already exists: john@test.com"));
+
+        // When & Then
+        mockMvc.perform(post("/api/students")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createDTO)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Email already exists: john@test.com"));
+    }
+
     @Test
     void testCreateStudent_Unauthorized() throws Exception {
-        // Given - No session (not logged in)
+        // Given - No token (not logged in)
         StudentCreateDTO createDTO = new StudentCreateDTO("John", "Doe", "john@test.com", "Computer Science", 20);
 
         // When & Then
@@ -87,10 +136,114 @@ class StudentControllerTest {
         verify(studentService, never()).createStudent(any(StudentCreateDTO.class));
     }
 
+    @Test
+    void testGetAllStudents_InvalidToken() throws Exception {
+        // Given - A token signed with another key
+        String token = "Bearer " + new AdminTokenService(List.of(), Duration.ofHours(1)).issueToken("admin@test.com");
+
+        // When & Then
+        mockMvc.perform(get("/api/students").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.error").value("Admin authentication required"));
+
+        verify(studentService, never()).getAllStudents();
+    }
+
+    @Test
+    void testImportStudents_Json() throws Exception {
+        // Given
+        String token = adminToken();
+        List<StudentCreateDTO> students = Arrays.asList(
+                new StudentCreateDTO("John", "Doe", "john@test.com", "Computer Science", 20),
+                new StudentCreateDTO("Jane", "Smith", "jane@test.com", "Mathematics", 22));
+
+        StudentImportReportDTO report = new StudentImportReportDTO(2, 1, 1, Arrays.asList(
+                new StudentImportRowDTO(1, "john@test.com", StudentImportRowDTO.IMPORTED, 1L, List.of()),
+                new StudentImportRowDTO(2, "jane@test.com", StudentImportRowDTO.FAILED, null,
+                        List.of("Email already exists: jane@test.com"))));
+        when(studentService.importStudents(anyList())).thenReturn(report);
+
+        // When & Then
+        mockMvc.perform(post("/api/students/import")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(students)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.rows[0].studentId").value(1))
+                .andExpect(jsonPath("$.rows[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.rows[1].errors[0]").value("Email already exists: jane@test.com"));
+
+        verify(studentService).importStudents(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testImportStudents_Csv() throws Exception {
+        // Given
+        String token = adminToken();
+        String csv = "email,firstName,lastName,course,age\r\n"
+                + "john@test.com,John,Doe,\"Arts, Design\",20\r\n"
+                + "\r\n"
+                + "jane@test.com,Jane,\"O\"\"Neil\",Mathematics,abc\r\n";
+        when(studentService.importStudents(anyList())).thenReturn(new StudentImportReportDTO(2, 2, 0, List.of()));
+
+        // When & Then
+        mockMvc.perform(post("/api/students/import")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2));
+
+        ArgumentCaptor<List<StudentCreateDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(studentService).importStudents(captor.capture());
+        List<StudentCreateDTO> parsed = captor.getValue();
+        assertEquals(2, parsed.size());
+        assertEquals("Arts, Design", parsed.get(0).getCourse());
+        assertEquals(20, parsed.get(0).getAge());
+        assertEquals("O\"Neil", parsed.get(1).getLastName());
+        assertEquals(null, parsed.get(1).getAge());
+    }
+
+    @Test
+    void testImportStudents_CsvFileUpload() throws Exception {
+        // Given
+        String token = adminToken();
+        MockMultipartFile file = new MockMultipartFile("file", "students.csv", "text/csv",
+                "firstName,lastName,email,course,age\nJohn,Doe,john@test.com,Physics,20\n".getBytes());
+        when(studentService.importStudents(anyList())).thenReturn(new StudentImportReportDTO(1, 1, 0, List.of()));
+
+        // When & Then
+        mockMvc.perform(multipart("/api/students/import").file(file).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1));
+
+        verify(studentService).importStudents(anyList());
+    }
+
+    @Test
+    void testImportStudents_CsvMissingColumn() throws Exception {
+        // Given
+        String token = adminToken();
+
+        // When & Then
+        mockMvc.perform(post("/api/students/import")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType("text/csv")
+                .content("firstName,lastName,email,course\nJohn,Doe,john@test.com,Physics\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Missing CSV column: age"));
+
+        verify(studentService, never()).importStudents(anyList());
+    }
+
     @Test
     void testGetAllStudents_Success() throws Exception {
         // Given
-        MockHttpSession session = createAdminSession();
+        String token = adminToken();
         
         StudentDTO student1 = new StudentDTO();
         student1.setStudentId(1L);
@@ -106,7 +259,7 @@ class StudentControllerTest {
         when(studentService.getAllStudents()).thenReturn(students);
 
         // When & Then
-        mockMvc.perform(get("/api/students").session(session))
+        mockMvc.perform(get("/api/students").header(HttpHeaders.AUTHORIZATION, token))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].firstName").value("John"))
@@ -115,32 +268,282 @@ class StudentControllerTest {
         verify(studentService).getAllStudents();
     }
 
+    @Test
+    void testGetStudentsPage_Success() throws Exception {
+        // Given
+        String token = adminToken();
+        
+        StudentDTO student1 = new StudentDTO();
+        student1.setStudentId(11L);
+        student1.setFirstName("John");
+        
+        StudentDTO student2 = new StudentDTO();
+        student2.setStudentId(12L);
+        student2.setFirstName("Jane");
+
+        StudentPageDTO page = new StudentPageDTO(Arrays.asList(student1, student2), 12L, 2);
+        when(studentService.getStudentsPage(10L, 2)).thenReturn(page);
+
+        // When & Then
+        mockMvc.perform(get("/api/students/page")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .param("after", "10")
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.students.length()").value(2))
+                .andExpect(jsonPath("$.students[0].studentId").value(11))
+                .andExpect(jsonPath("$.nextCursor").value(12))
+                .andExpect(jsonPath("$.limit").value(2));
+
+        verify(studentService).getStudentsPage(10L, 2);
+    }
+
+    @Test
+    void testGetChanges_Success() throws Exception {
+        // Given
+        String token = adminToken();
+        StudentDTO student = new StudentDTO();
+        student.setStudentId(7L);
+        student.setFirstName("John");
+        StudentChangeFeedDTO feed = new StudentChangeFeedDTO(List.of(
+                new StudentChangeDTO(41L, "UPDATED", 7L, student, Instant.now()),
+                new StudentChangeDTO(42L, "DELETED", 8L, null, Instant.now())), 42L, true);
+        when(changeFeedService.getChanges(40L, 2)).thenReturn(feed);
+
+        // When & Then
+        mockMvc.perform(get("/api/students/changes")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .param("since", "40")
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(2))
+                .andExpect(jsonPath("$.changes[0].sequence").value(41))
+                .andExpect(jsonPath("$.changes[0].student.firstName").value("John"))
+                .andExpect(jsonPath("$.changes[1].changeType").value("DELETED"))
+                .andExpect(jsonPath("$.changes[1].studentId").value(8))
+                .andExpect(jsonPath("$.nextSequence").value(42))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    void testGetChanges_PrunedChangesAreGone() throws Exception {
+        // Given
+        String token = adminToken();
+        when(changeFeedService.getChanges(5L, 100)).thenThrow(new ChangeFeedExpiredException("pruned"));
+
+        // When & Then
+        mockMvc.perform(get("/api/students/changes")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .param("since", "5"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.error").value("pruned"));
+    }
+
+    @Test
+    void testGetStudentsPage_DefaultsToFirstPage() throws Exception {
+        // Given
+        String token = adminToken();
+        when(studentService.getStudentsPage(null, 50)).thenReturn(new StudentPageDTO(List.of(), null, 50));
+
+        // When & Then
+        mockMvc.perform(get("/api/students/page").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.students.length()").value(0))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(studentService).getStudentsPage(null, 50);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExportStudents_Ndjson() throws Exception {
+        // Given
+        String token = adminToken();
+        StudentDTO student1 = new StudentDTO();
+        student1.setStudentId(1L);
+        student1.setFirstName("John");
+        StudentDTO student2 = new StudentDTO();
+        student2.setStudentId(2L);
+        student2.setFirstName("Jane");
+
+        doAnswer(invocation -> {
+            Consumer<StudentDTO> consumer = invocation.getArgument(0);
+            consumer.accept(student1);
+            consumer.accept(student2);
+            return null;
+        }).when(studentService).exportStudents(any(Consumer.class));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/students/export").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1L,
+                objectMapper.readValue(lines[0], StudentDTO.class).getStudentId());
+        assertEquals("Jane",
+                objectMapper.readValue(lines[1], StudentDTO.class).getFirstName());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExportStudents_Csv() throws Exception {
+        // Given
+        String token = adminToken();
+        StudentDTO student = new StudentDTO();
+        student.setStudentId(1L);
+        student.setFirstName("John");
+        student.setLastName("Doe");
+        student.setEmail("john@test.com");
+        student.setCourse("Arts, Design");
+        student.setAge(20);
+
+        doAnswer(invocation -> {
+            Consumer<StudentDTO> consumer = invocation.getArgument(0);
+            consumer.accept(student);
+            return null;
+        }).when(studentService).exportStudents(any(Consumer.class));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/students/export")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(
+                        "studentId,firstName,lastName,email,course,age,registrationDate,lastModifiedDate\n"
+                        + "1,John,Doe,john@test.com,\"Arts, Design\",20,,\n"));
+    }
+
+    @Test
+    void testExportStudents_UnsupportedFormat() throws Exception {
+        // Given
+        String token = adminToken();
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/students/export")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .param("format", "xml"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unsupported export format: xml"));
+
+        verify(studentService, never()).exportStudents(any());
+    }
+
+    @Test
+    void testSearchStudents_Success() throws Exception {
+        // Given
+        String token = adminToken();
+        StudentDTO student = new StudentDTO(3L, "John", "Smith", "john.smith@test.com", "Physics", 20,
+                LocalDateTime.now(), LocalDateTime.now());
+        when(studentService.searchStudents("john sm", 1, 10))
+                .thenReturn(new StudentSearchResultDTO("john sm", List.of(student), 1, 10, false));
+
+        // When & Then
+        mockMvc.perform(get("/api/students/search")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .param("q", " john sm ")
+                .param("page", "1")
+                .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.students.length()").value(1))
+                .andExpect(jsonPath("$.students[0].studentId").value(3))
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        verify(studentService).searchStudents("john sm", 1, 10);
+    }
+
+    @Test
+    void testSearchStudents_QueryTooShort() throws Exception {
+        // Given
+        String token = adminToken();
+
+        // When & Then
+        mockMvc.perform(get("/api/students/search")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .param("q", " j "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
+
+        verify(studentService, never()).searchStudents(anyString(), anyInt(), anyInt());
+    }
+
     @Test
     void testGetStudentById_Success() throws Exception {
         // Given
-        MockHttpSession session = createAdminSession();
+        String token = adminToken();
         Long studentId = 1L;
         
         StudentDTO studentDTO = new StudentDTO();
         studentDTO.setStudentId(studentId);
         studentDTO.setFirstName("John");
         studentDTO.setLastName("Doe");
+        studentDTO.setVersion(3L);
 
         when(studentService.getStudentById(studentId)).thenReturn(studentDTO);
 
         // When & Then
-        mockMvc.perform(get("/api/students/{id}", studentId).session(session))
+        mockMvc.perform(get("/api/students/{id}", studentId).header(HttpHeaders.AUTHORIZATION, token))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
                 .andExpect(jsonPath("$.studentId").value(1))
-                .andExpect(jsonPath("$.firstName").value("John"));
+                .andExpect(jsonPath("$.firstName").value("John"))
+                .andExpect(jsonPath("$.version").value(3));
 
         verify(studentService).getStudentById(studentId);
     }
 
+    @Test
+    void testGetStudentById_NotModified() throws Exception {
+        // Given
+        String token = adminToken();
+        StudentDTO studentDTO = new StudentDTO();
+        studentDTO.setStudentId(1L);
+        studentDTO.setVersion(3L);
+        studentDTO.setLastModifiedDate(LocalDateTime.of(2024, 1, 15, 10, 30));
+
+        when(studentService.getStudentById(1L)).thenReturn(studentDTO);
+
+        // When & Then - The ETag of the client's copy, then its Last-Modified
+        mockMvc.perform(get("/api/students/{id}", 1L)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(content().string(""));
+        String lastModified = mockMvc.perform(get("/api/students/{id}", 1L).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+        mockMvc.perform(get("/api/students/{id}", 1L)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/students/{id}", 1L)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(3));
+    }
+
     @Test
     void testUpdateStudent_Success() throws Exception {
         // Given
-        MockHttpSession session = createAdminSession();
+        String token = adminToken();
         Long studentId = 1L;
         StudentCreateDTO updateDTO = new StudentCreateDTO("John", "Updated", "john.updated@test.com", "Mathematics", 21);
         
@@ -149,27 +552,126 @@ class StudentControllerTest {
         responseDTO.setFirstName("John");
         responseDTO.setLastName("Updated");
 
-        when(studentService.updateStudent(eq(studentId), any(StudentCreateDTO.class))).thenReturn(responseDTO);
+        when(studentService.updateStudent(eq(studentId), any(StudentCreateDTO.class), isNull())).thenReturn(responseDTO);
 
         // When & Then
         mockMvc.perform(put("/api/students/{id}", studentId)
-                .session(session)
+                .header(HttpHeaders.AUTHORIZATION, token)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updateDTO)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.lastName").value("Updated"));
 
-        verify(studentService).updateStudent(eq(studentId), any(StudentCreateDTO.class));
+        verify(studentService).updateStudent(eq(studentId), any(StudentCreateDTO.class), isNull());
+    }
+
+    @Test
+    void testUpdateStudent_IfMatch() throws Exception {
+        // Given
+        String token = adminToken();
+        StudentCreateDTO updateDTO = new StudentCreateDTO("John", "Updated", "john@test.com", "Mathematics", 21);
+        StudentDTO responseDTO = new StudentDTO();
+        responseDTO.setStudentId(1L);
+        responseDTO.setVersion(4L);
+
+        when(studentService.updateStudent(eq(1L), any(StudentCreateDTO.class), eq(3L))).thenReturn(responseDTO);
+
+        // When & Then
+        mockMvc.perform(put("/api/students/{id}", 1L)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    void testUpdateStudent_StaleIfMatch() throws Exception {
+        // Given
+        String token = adminToken();
+        StudentCreateDTO updateDTO = new StudentCreateDTO("John", "Updated", "john@test.com", "Mathematics", 21);
+
+        when(studentService.updateStudent(eq(1L), any(StudentCreateDTO.class), eq(3L)))
+                .thenThrow(new StudentVersionMismatchException("Student 1 was modified", 5L));
+
+        // When & Then
+        mockMvc.perform(put("/api/students/{id}", 1L)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""))
+                .andExpect(jsonPath("$.error").exists());
+    }
+
+    @Test
+    void testUpdateStudent_ConcurrentConflict() throws Exception {
+        // Given
+        String token = adminToken();
+        StudentCreateDTO updateDTO = new StudentCreateDTO("John", "Updated", "john@test.com", "Mathematics", 21);
+
+        when(studentService.updateStudent(eq(1L), any(StudentCreateDTO.class), eq(3L)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Student.class, 1L));
+
+        // When & Then
+        mockMvc.perform(put("/api/students/{id}", 1L)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").exists());
+    }
+
+    @Test
+    void testPatchStudent_Success() throws Exception {
+        // Given
+        String token = adminToken();
+        StudentDTO responseDTO = new StudentDTO();
+        responseDTO.setStudentId(1L);
+        responseDTO.setCourse("Physics");
+        responseDTO.setVersion(4L);
+
+        when(studentService.patchStudent(eq(1L), eq(Map.of("course", "Physics")), eq(3L))).thenReturn(responseDTO);
+
+        // When & Then
+        mockMvc.perform(patch("/api/students/{id}", 1L)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType("application/merge-patch+json")
+                .content("{\"course\": \"Physics\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.course").value("Physics"));
+    }
+
+    @Test
+    void testPatchStudent_InvalidPatch() throws Exception {
+        // Given
+        String token = adminToken();
+
+        when(studentService.patchStudent(eq(1L), anyMap(), isNull()))
+                .thenThrow(new IllegalArgumentException("Unknown or read-only field: studentId"));
+
+        // When & Then
+        mockMvc.perform(patch("/api/students/{id}", 1L)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"studentId\": 2}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unknown or read-only field: studentId"));
     }
 
     @Test
     void testDeleteStudent_Success() throws Exception {
         // Given
-        MockHttpSession session = createAdminSession();
+        String token = adminToken();
         Long studentId = 1L;
 
         // When & Then
-        mockMvc.perform(delete("/api/students/{id}", studentId).session(session))
+        mockMvc.perform(delete("/api/students/{id}", studentId).header(HttpHeaders.AUTHORIZATION, token))
                 .andExpect(status().isNoContent());
 
         verify(studentService).deleteStudent(studentId);
@@ -178,17 +680,18 @@ class StudentControllerTest {
     @Test
     void testGetStudentsByCourse_Success() throws Exception {
         // Given
-        MockHttpSession session = createAdminSession();
+        String token = adminToken();
         String course = "Computer Science";
         
         StudentDTO student = new StudentDTO();
         student.setCourse(course);
         List<StudentDTO> students = Arrays.asList(student);
 
+        when(studentService.getCourseListVersion(course)).thenReturn(StudentListVersionDTO.of(students));
         when(studentService.getStudentsByCourse(course)).thenReturn(students);
 
         // When & Then
-        mockMvc.perform(get("/api/students/course/{course}", course).session(session))
+        mockMvc.perform(get("/api/students/course/{course}", course).header(HttpHeaders.AUTHORIZATION, token))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].course").value(course));
@@ -196,10 +699,64 @@ class StudentControllerTest {
         verify(studentService).getStudentsByCourse(course);
     }
 
+    @Test
+    void testGetStudentsByCourse_NotModifiedWithoutLoadingStudents() throws Exception {
+        // Given
+        String token = adminToken();
+        String course = "Computer Science";
+        StudentDTO student = new StudentDTO();
+        student.setCourse(course);
+        student.setVersion(2L);
+        student.setLastModifiedDate(LocalDateTime.of(2024, 1, 15, 10, 30));
+
+        when(studentService.getStudentsByCourse(course)).thenReturn(List.of(student));
+        when(studentService.getCourseListVersion(course))
+                .thenReturn(new StudentListVersionDTO(1L, 2L, student.getLastModifiedDate()));
+        String eTag = mockMvc.perform(get("/api/students/course/{course}", course).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/students/course/{course}", course)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        verify(studentService, times(1)).getStudentsByCourse(course);
+    }
+
+    @Test
+    void testGetStudentsByCourse_ReloadsCachedListingBehindTheDatabase() throws Exception {
+        // Given - The cached listing still has version 1 of a student the database has at version 2
+        String token = adminToken();
+        String course = "Computer Science";
+        StudentDTO cached = new StudentDTO(1L, "John", "Doe", "john@test.com", course, 20,
+                null, LocalDateTime.of(2024, 1, 15, 10, 30), 1L);
+        StudentDTO current = new StudentDTO(1L, "Johnny", "Doe", "john@test.com", course, 20,
+                null, LocalDateTime.of(2024, 1, 15, 11, 0), 2L);
+        when(studentService.getCourseListVersion(course)).thenReturn(StudentListVersionDTO.of(List.of(current)));
+        when(studentService.getStudentsByCourse(course)).thenReturn(List.of(cached));
+        when(studentService.reloadStudentsByCourse(course)).thenReturn(List.of(current));
+        String eTag = mockMvc.perform(get("/api/students/course/{course}", course).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].firstName").value("Johnny"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then - The ETag sent with the reloaded listing is the one the database version gives
+        mockMvc.perform(get("/api/students/course/{course}", course)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        verify(studentService).reloadStudentsByCourse(course);
+    }
+
     @Test
     void testGetStudentsByAgeRange_Success() throws Exception {
         // Given
-        MockHttpSession session = createAdminSession();
+        String token = adminToken();
         Integer minAge = 18;
         Integer maxAge = 25;
         
@@ -211,7 +768,7 @@ class StudentControllerTest {
 
         // When & Then
         mockMvc.perform(get("/api/students/age")
-                .session(session)
+                .header(HttpHeaders.AUTHORIZATION, token)
                 .param("minAge", minAge.toString())
                 .param("maxAge", maxAge.toString()))
                 .andExpect(status().isOk())
@@ -223,13 +780,13 @@ class StudentControllerTest {
     @Test
     void testGetAllCourses_Success() throws Exception {
         // Given
-        MockHttpSession session = createAdminSession();
+        String token = adminToken();
         List<String> courses = Arrays.asList("Computer Science", "Mathematics", "Physics");
 
         when(studentService.getAllCourses()).thenReturn(courses);
 
         // When & Then
-        mockMvc.perform(get("/api/students/courses").session(session))
+        mockMvc.perform(get("/api/students/courses").header(HttpHeaders.AUTHORIZATION, token))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(3))
                 .andExpect(jsonPath("$[0]").value("Computer Science"));
@@ -237,17 +794,74 @@ class StudentControllerTest {
         verify(studentService).getAllCourses();
     }
 
+    @Test
+    void testGetAllCourses_NotModified() throws Exception {
+        // Given
+        String token = adminToken();
+        when(studentService.getAllCourses()).thenReturn(Arrays.asList("Computer Science", "Physics"));
+        String eTag = mockMvc.perform(get("/api/students/courses").header(HttpHeaders.AUTHORIZATION, token))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then - Same courses, then a new one
+        mockMvc.perform(get("/api/students/courses")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        when(studentService.getAllCourses()).thenReturn(Arrays.asList("Computer Science", "History", "Physics"));
+        mockMvc.perform(get("/api/students/courses")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3));
+    }
+
+    @Test
+    void testGetCourseStatistics_Success() throws Exception {
+        // Given
+        String token = adminToken();
+        String course = "Physics";
+        when(studentService.getCourseStatistics(course)).thenReturn(new CourseStatsDTO(course, 3, 18, 24, 20.5));
+
+        // When & Then
+        mockMvc.perform(get("/api/students/course/{course}/stats", course).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.course").value(course))
+                .andExpect(jsonPath("$.count").value(3))
+                .andExpect(jsonPath("$.minAge").value(18))
+                .andExpect(jsonPath("$.maxAge").value(24))
+                .andExpect(jsonPath("$.averageAge").value(20.5));
+
+        verify(studentService).getCourseStatistics(course);
+    }
+
+    @Test
+    void testGetAllCourseStatistics_Success() throws Exception {
+        // Given
+        String token = adminToken();
+        when(studentService.getAllCourseStatistics()).thenReturn(Arrays.asList(
+                new CourseStatsDTO("Mathematics", 2, 19, 21, 20.0),
+                new CourseStatsDTO("Physics", 1, 22, 22, 22.0)));
+
+        // When & Then
+        mockMvc.perform(get("/api/students/courses/stats").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].course").value("Physics"));
+
+        verify(studentService).getAllCourseStatistics();
+    }
+
     @Test
     void testCheckEmailExists_Success() throws Exception {
         // Given
-        MockHttpSession session = createAdminSession();
+        String token = adminToken();
         String email = "test@example.com";
 
         when(studentService.existsByEmail(email)).thenReturn(true);
 
         // When & Then
         mockMvc.perform(get("/api/students/email/exists")
-                .session(session)
+                .header(HttpHeaders.AUTHORIZATION, token)
                 .param("email", email))
                 .andExpect(status().isOk())
                 .andExpect(content().string("true"));
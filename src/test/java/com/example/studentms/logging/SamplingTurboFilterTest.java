@@ -0,0 +1,49 @@
+package com.example.studentms.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SamplingTurboFilterTest {
+
+    private final Logger logger = new LoggerContext().getLogger("test");
+
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SamplingTurboFilter();
+        filter.setEvery(3);
+        filter.start();
+    }
+
+    @Test
+    void testDecide_KeepsOneInEverySampledInfoLine() {
+        // When
+        int kept = 0;
+        for (int i = 0; i < 9; i++) {
+            if (filter.decide(LogSampling.SAMPLED, logger, Level.INFO, "line {}", new Object[] {i}, null) == FilterReply.NEUTRAL) {
+                kept++;
+            }
+        }
+
+        // Then
+        assertEquals(3, kept);
+    }
+
+    @Test
+    void testDecide_NeverDropsUnmarkedOrWarningLines() {
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.INFO, "line", null, null));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(LogSampling.SAMPLED, logger, Level.WARN, "line", null, null));
+            // isInfoEnabled(SAMPLED) checks carry no format and don't consume a sample
+            assertEquals(FilterReply.NEUTRAL, filter.decide(LogSampling.SAMPLED, logger, Level.INFO, null, null, null));
+        }
+    }
+}
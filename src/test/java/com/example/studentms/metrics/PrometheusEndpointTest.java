@@ -0,0 +1,93 @@
+package com.example.studentms.metrics;
+
+import com.example.studentms.dto.StudentCreateDTO;
+import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.security.AdminTokenService;
+import com.example.studentms.service.StudentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.net.URI;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The Prometheus scrape of the fully configured application (metrics export is off in tests unless requested)
+@SpringBootTest
+@AutoConfigureObservability(tracing = false)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PrometheusEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private AdminTokenService tokenService;
+
+    @Test
+    void testPrometheusEndpoint_ExposesEndpointBusinessCacheAndJvmMetrics() throws Exception {
+        // Given
+        String token = "Bearer " + tokenService.issueToken("admin@test.com");
+        StudentDTO student = studentService.createStudent(
+                new StudentCreateDTO("Prometheus", "Scrape", "prometheus@test.com", "Physics", 20));
+        try {
+            mockMvc.perform(get("/api/students/" + student.getStudentId()).header(HttpHeaders.AUTHORIZATION, token))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/api/students/course/Physics").header(HttpHeaders.AUTHORIZATION, token))
+                    .andExpect(status().isOk());
+
+            // When & Then
+            mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, token))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(containsString(
+                            "http_server_requests_seconds_bucket{application=\"studentms\",error=\"none\",exception=\"none\","
+                                    + "method=\"GET\",outcome=\"SUCCESS\",status=\"200\",uri=\"/api/students/{id}\"")))
+                    .andExpect(content().string(containsString(
+                            "studentms_students_changes_total{application=\"studentms\",type=\"created\"")))
+                    .andExpect(content().string(containsString(
+                            "studentms_students_returned_students_count{application=\"studentms\",endpoint=\"course\"")))
+                    .andExpect(content().string(containsString(
+                            "studentms_admin_logins_total{application=\"studentms\",outcome=\"failure\"")))
+                    .andExpect(content().string(containsString("cache_gets_total{application=\"studentms\",cache=\"students\"")))
+                    .andExpect(content().string(containsString("hikaricp_connections_pending{")))
+                    .andExpect(content().string(containsString("jvm_memory_used_bytes{")));
+        } finally {
+            studentService.deleteStudent(student.getStudentId());
+        }
+    }
+
+    @Test
+    void testPrometheusEndpoint_RequiresAdminToken() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testProtectedPaths_RequireAdminTokenWhateverTheUriSpelling() throws Exception {
+        // When & Then
+        mockMvc.perform(get(URI.create("/actuator/prometheus;x=y")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get(URI.create("/actuator/%70rometheus")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get(URI.create("/api;x=y/students")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics").with(request -> {
+                    request.setRequestURI("//actuator/metrics");
+                    return request;
+                }))
+                .andExpect(status().isUnauthorized());
+    }
+}
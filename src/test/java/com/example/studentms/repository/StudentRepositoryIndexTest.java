@@ -0,0 +1,109 @@
+package com.example.studentms.repository;
+
+import com.example.studentms.config.HibernateCacheConfig;
+import com.example.studentms.model.Student;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs each StudentRepository query against the Flyway-migrated H2 schema, captures the SQL
+// Hibernate actually sends and asserts that H2's EXPLAIN plan uses an index instead of a table scan
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.studentms.repository.StudentRepositoryIndexTest$SqlCapture")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(HibernateCacheConfig.class)
+@ActiveProfiles("test")
+class StudentRepositoryIndexTest {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        String[] courses = {"Computer Science", "Mathematics", "Physics", "History"};
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            students.add(new Student("First" + i, "Last" + i, "student" + i + "@test.com", courses[i % 4], 16 + (i % 50)));
+        }
+        studentRepository.saveAllAndFlush(students);
+        SqlCapture.statements.clear();
+    }
+
+    @Test
+    void testFindDTOsByCourse_UsesCourseIndex() {
+        assertEquals(50, studentRepository.findDTOsByCourse("COMPUTER science").size());
+        assertPlanUses("idx_students_course_key_age", "computer science");
+    }
+
+    @Test
+    void testCountStudentsByCourse_UsesCourseIndex() {
+        assertEquals(50L, studentRepository.countStudentsByCourse("physics"));
+        assertPlanUses("idx_students_course_key_age", "physics");
+    }
+
+    @Test
+    void testFindStudentsByCourseAndMinAge_UsesCourseIndex() {
+        assertFalse(studentRepository.findStudentsByCourseAndMinAge("Mathematics", 40).isEmpty());
+        assertPlanUses("idx_students_course_key_age", "mathematics", 40);
+    }
+
+    @Test
+    void testFindDTOsByAgeBetween_UsesAgeIndex() {
+        assertFalse(studentRepository.findDTOsByAgeBetween(20, 22).isEmpty());
+        assertPlanUses("idx_students_age", 20, 22);
+    }
+
+    @Test
+    void testFindByFirstNameAndLastName_UsesNameIndex() {
+        assertEquals(1, studentRepository.findByFirstNameIgnoreCaseAndLastNameIgnoreCase("FIRST7", "last7").size());
+        assertPlanUses("idx_students_name_key", "first7", "last7");
+    }
+
+    @Test
+    void testFindExistingEmails_UsesEmailIndex() {
+        assertEquals(1, studentRepository.findExistingEmails(List.of("student3@test.com", "nobody@test.com")).size());
+        assertPlanUses("uk_students_email", "student3@test.com", "nobody@test.com");
+    }
+
+    @Test
+    void testFindDTOsAfter_UsesPrimaryKey() {
+        assertEquals(10, studentRepository.findDTOsAfter(0L, PageRequest.of(0, 10)).size());
+        assertPlanUses("primary_key", 0L, 10);
+    }
+
+    // EXPLAIN the last captured statement with the given parameter values
+    private void assertPlanUses(String index, Object... parameters) {
+        assertFalse(SqlCapture.statements.isEmpty(), "No SQL was captured");
+        String sql = SqlCapture.statements.get(SqlCapture.statements.size() - 1);
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters)
+                .toLowerCase(Locale.ROOT);
+        assertTrue(plan.contains(index), "Expected " + index + " in plan:\n" + plan);
+        assertFalse(plan.contains("tablescan"), "Expected no table scan in plan:\n" + plan);
+    }
+
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> statements = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
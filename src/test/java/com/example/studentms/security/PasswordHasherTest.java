@@ -0,0 +1,57 @@
+package com.example.studentms.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHasherTest {
+
+    private final PasswordHasher hasher = new PasswordHasher(1000, 1, 4);
+
+    @AfterEach
+    void tearDown() {
+        hasher.shutdown();
+    }
+
+    @Test
+    void testHash_VerifiesAndIsSalted() {
+        // Given
+        String hash = hasher.hash("password123").join();
+
+        // When & Then
+        assertTrue(hash.startsWith("pbkdf2-sha256$1000$"));
+        assertNotEquals(hash, hasher.hash("password123").join());
+        assertTrue(hasher.matches("password123", hash).join());
+        assertFalse(hasher.matches("password124", hash).join());
+        assertFalse(hasher.needsRehash(hash));
+    }
+
+    @Test
+    void testMatches_LegacyPlaintextNeedsRehash() {
+        // When & Then
+        assertTrue(hasher.matches("password123", "password123").join());
+        assertFalse(hasher.matches("password124", "password123").join());
+        assertTrue(hasher.needsRehash("password123"));
+    }
+
+    @Test
+    void testNeedsRehash_WhenWorkFactorChanges() {
+        // Given
+        PasswordHasher stronger = new PasswordHasher(2000, 1, 4);
+        String hash = hasher.hash("password123").join();
+
+        // When & Then
+        assertTrue(stronger.needsRehash(hash));
+        assertTrue(stronger.matches("password123", hash).join());
+        stronger.shutdown();
+    }
+
+    @Test
+    void testMatches_UnknownAccountNeverMatches() {
+        // When & Then
+        assertFalse(hasher.matches("dummy-password", null).join());
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.studentms.service;
+
+import com.example.studentms.config.CacheConfig;
+import com.example.studentms.config.HibernateCacheConfig;
+import com.example.studentms.dto.AdminLoginDTO;
+import com.example.studentms.event.ChangeEventOutbox;
+import com.example.studentms.model.Admin;
+import com.example.studentms.repository.AdminRepository;
+import com.example.studentms.security.PasswordHasher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// Password storage against the Flyway-migrated H2 schema. Not transactional: the hash upgrade is
+// saved from the hashing pool, which must see the rows committed by the test.
+@DataJpaTest(properties = "studentms.auth.password.iterations=1000")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AdminService.class, PasswordHasher.class, CacheConfig.class, HibernateCacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+class AdminServiceTest {
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private AdminRepository adminRepository;
+
+    @MockBean
+    private ChangeEventOutbox changeEventOutbox;
+    
+    @SpyBean
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        adminRepository.deleteAll();
+    }
+
+    @Test
+    void testCreateAdmin_StoresHash() {
+        // When
+        adminService.createAdmin("admin@test.com", "password123");
+
+        // Then
+        String stored = adminRepository.findByEmail("admin@test.com").orElseThrow().getPassword();
+        assertTrue(stored.startsWith("pbkdf2-sha256$1000$"));
+        assertTrue(adminService.validateAdmin(new AdminLoginDTO("admin@test.com", "password123")).join());
+        assertFalse(adminService.validateAdmin(new AdminLoginDTO("admin@test.com", "password124")).join());
+    }
+
+    @Test
+    void testValidateAdmin_UpgradesPlaintextPassword() throws Exception {
+        // Given - A row written before passwords were hashed
+        adminRepository.save(new Admin("legacy@test.com", "password123"));
+
+        // When
+        assertTrue(adminService.validateAdmin(new AdminLoginDTO("legacy@test.com", "password123")).join());
+
+        // Then - The upgrade is saved in the background
+        String stored = "password123";
+        for (int attempt = 0; attempt < 100 && stored.equals("password123"); attempt++) {
+            Thread.sleep(50);
+            stored = adminRepository.findByEmail("legacy@test.com").orElseThrow().getPassword();
+        }
+        assertTrue(stored.startsWith("pbkdf2-sha256$1000$"));
+        assertTrue(adminService.validateAdmin(new AdminLoginDTO("legacy@test.com", "password123")).join());
+    }
+
+    @Test
+    void testCreateAdmin_EvictsCachedUnknownEmail() {
+        // Given - A failed login caches the unknown email
+        assertFalse(adminService.validateAdmin(new AdminLoginDTO("new@test.com", "password123")).join());
+
+        // When
+        adminService.createAdmin("new@test.com", "password123");
+
+        // Then
+        assertTrue(adminService.validateAdmin(new AdminLoginDTO("new@test.com", "password123")).join());
+    }
+
+    @Test
+    void testCreateAdmin_HashesBeforeTheTransaction() {
+        // Given
+        AtomicBoolean hashedInTransaction = new AtomicBoolean();
+        doAnswer(invocation -> {
+            hashedInTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordHasher).hash(anyString());
+
+        // When
+        adminService.createAdmin("hashed@test.com", "password123");
+
+        // Then
+        assertFalse(hashedInTransaction.get());
+        verify(changeEventOutbox).appendAdminCreated(anyLong(), eq("hashed@test.com"));
+    }
+}
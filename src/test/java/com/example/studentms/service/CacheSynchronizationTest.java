@@ -0,0 +1,212 @@
+package com.example.studentms.service;
+
+import com.example.studentms.StudentmsApplication;
+import com.example.studentms.dto.StudentCreateDTO;
+import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.event.ChangeEvent;
+import com.example.studentms.event.ChangeEventOutbox;
+import com.example.studentms.event.StudentChangedEvent;
+import com.example.studentms.exception.StudentNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// Two application nodes in one JVM sharing one H2 database (not the one of the other tests):
+// a write on one node must reach the caches of the other within the polling bound, and a node whose polls
+// hang must drop its caches after max-staleness. The startup and hung-poll cases use mocks.
+class CacheSynchronizationTest {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+    private static final Duration STALENESS_BOUND = Duration.ofSeconds(5);
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    void testUpdateOnOneNode_ReachesTheCachesOfTheOther() throws Exception {
+        // Given - Node A has the student and its course cached
+        StudentService studentServiceA = nodeA.getBean(StudentService.class);
+        StudentService studentServiceB = nodeB.getBean(StudentService.class);
+        Long studentId = studentServiceA.createStudent(
+                new StudentCreateDTO("Synced", "Student", "synced@test.com", "Sync Physics", 20)).getStudentId();
+        studentServiceA.getStudentById(studentId);
+        studentServiceA.getStudentsByCourse("Sync Physics");
+
+        // When
+        studentServiceB.updateStudent(studentId,
+                new StudentCreateDTO("Renamed", "Student", "synced@test.com", "Sync Chemistry", 21), null);
+
+        // Then
+        awaitOnA(() -> "Renamed".equals(studentServiceA.getStudentById(studentId).getFirstName()));
+        awaitOnA(() -> studentServiceA.getStudentsByCourse("Sync Physics").isEmpty());
+        awaitOnA(() -> studentServiceA.getStudentCountByCourse("Sync Chemistry") == 1L);
+        assertEquals(0L, studentServiceA.getStudentCountByCourse("Sync Physics"));
+        Timer lag = nodeA.getBean(MeterRegistry.class).get("studentms.cache.sync.lag").timer();
+        assertTrue(lag.count() > 0);
+        assertTrue(lag.max(TimeUnit.MILLISECONDS) < STALENESS_BOUND.toMillis());
+    }
+
+    @Test
+    void testDeleteOnOneNode_IsNoLongerServedByTheOther() throws Exception {
+        // Given
+        StudentService studentServiceA = nodeA.getBean(StudentService.class);
+        StudentService studentServiceB = nodeB.getBean(StudentService.class);
+        StudentDTO student = studentServiceB.createStudent(
+                new StudentCreateDTO("Deleted", "Student", "deleted-sync@test.com", "Sync History", 20));
+        awaitOnA(() -> studentServiceA.existsByEmail("deleted-sync@test.com"));
+        studentServiceA.getStudentById(student.getStudentId());
+
+        // When
+        studentServiceB.deleteStudent(student.getStudentId());
+
+        // Then
+        awaitOnA(() -> {
+            try {
+                studentServiceA.getStudentById(student.getStudentId());
+                return false;
+            } catch (StudentNotFoundException e) {
+                return true;
+            }
+        });
+        awaitOnA(() -> studentServiceA.getStudentCountByCourse("Sync History") == 0L);
+    }
+
+    @Test
+    void testOutbox_EventsAreNumberedWithoutGaps() {
+        // Given
+        ChangeEventOutbox outbox = nodeA.getBean(ChangeEventOutbox.class);
+        StudentService studentServiceA = nodeA.getBean(StudentService.class);
+        StudentService studentServiceB = nodeB.getBean(StudentService.class);
+        long start = outbox.latestSequence();
+
+        // When - Writes alternate between the nodes
+        for (int i = 0; i < 6; i++) {
+            StudentService studentService = i % 2 == 0 ? studentServiceA : studentServiceB;
+            studentService.createStudent(new StudentCreateDTO("Gapless", "Student", "gapless" + i + "@test.com", "Sync Art", 20));
+        }
+
+        // Then
+        List<ChangeEvent> events = outbox.findAfter(start, 100);
+        assertEquals(6, events.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(start + i + 1, events.get(i).sequence());
+        }
+    }
+
+    @Test
+    void testHungPoll_StillClearsTheCachesAfterMaxStaleness() throws Exception {
+        // Given - A poll that never returns (a database that does not answer)
+        CountDownLatch release = new CountDownLatch(1);
+        ChangeEventOutbox outbox = mock(ChangeEventOutbox.class);
+        when(outbox.latestSequence()).thenAnswer(invocation -> {
+            release.await();
+            return 0L;
+        });
+        Cache cache = mock(Cache.class);
+        CacheManager cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCacheNames()).thenReturn(List.of("students"));
+        when(cacheManager.getCache("students")).thenReturn(cache);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(mock(org.hibernate.Cache.class));
+        CacheSynchronizationService service = new CacheSynchronizationService(outbox, cacheManager,
+                entityManagerFactory, mock(CourseStatisticsService.class), mock(StudentSearchService.class),
+                mock(StudentEmailFilter.class), new SimpleMeterRegistry(), 500, POLL_INTERVAL, Duration.ofMillis(300));
+
+        // When
+        try {
+            service.start();
+
+            // Then
+            verify(cache, timeout(STALENESS_BOUND.toMillis())).clear();
+        } finally {
+            release.countDown();
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void testRemoteChangeCommittedWhileLoading_IsAppliedByTheFirstPoll() {
+        // Given - The position is taken at startup, then another node commits a creation while the
+        // in-memory structures load and before the first poll
+        ChangeEventOutbox outbox = mock(ChangeEventOutbox.class);
+        when(outbox.getNodeId()).thenReturn("node-a");
+        when(outbox.latestSequence()).thenReturn(41L);
+        StudentDTO created = new StudentDTO(7L, "Loaded", "Late", "loaded-late@test.com", "Sync Physics", 20, null, null);
+        ChangeEvent event = new ChangeEvent(42, ChangeEventOutbox.STUDENT, 7L, "CREATED", "{}", "node-b", Instant.now());
+        when(outbox.findAfter(41L, 500)).thenReturn(List.of(event));
+        when(outbox.readStudentChange(event)).thenReturn(StudentChangedEvent.created(created));
+        CacheManager cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCache(anyString())).thenReturn(mock(Cache.class));
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(mock(org.hibernate.Cache.class));
+        StudentSearchService studentSearch = mock(StudentSearchService.class);
+        StudentEmailFilter emailFilter = mock(StudentEmailFilter.class);
+        CacheSynchronizationService service = new CacheSynchronizationService(outbox, cacheManager,
+                entityManagerFactory, mock(CourseStatisticsService.class), studentSearch, emailFilter,
+                new SimpleMeterRegistry(), 500, POLL_INTERVAL, STALENESS_BOUND);
+        service.afterSingletonsInstantiated();
+        when(outbox.latestSequence()).thenReturn(42L);
+
+        // When
+        service.poll();
+
+        // Then
+        verify(studentSearch).onStudentChanged(any(StudentChangedEvent.class));
+        verify(emailFilter).add("loaded-late@test.com");
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(StudentmsApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:cachesync;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+                                + "DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "studentms.cache-sync.poll-interval=" + POLL_INTERVAL)
+                .run();
+    }
+
+    private static void awaitOnA(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + STALENESS_BOUND.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "node A did not catch up within " + STALENESS_BOUND);
+            Thread.sleep(POLL_INTERVAL.toMillis() / 2);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.studentms.service;
+
+import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.event.ChangeEventOutbox;
+import com.example.studentms.event.StudentChangedEvent;
+import com.example.studentms.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// The in-memory course statistics against a repository whose aggregate query can be held open
+class CourseStatisticsServiceTest {
+
+    private final ChangeEventOutbox outbox = mock(ChangeEventOutbox.class);
+
+    @Test
+    void testReconcile_KeepsChangesDeliveredWhileTheDatabaseIsQueried() throws Exception {
+        // Given - Two Physics students, and a reconcile query that waits until a third one is created
+        StudentRepository repository = mock(StudentRepository.class);
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch created = new CountDownLatch(1);
+        when(repository.countStudentsByCourseAndAge())
+                .thenReturn(rows(new Object[]{"Physics", 20, 2L}))
+                .thenAnswer(invocation -> {
+                    querying.countDown();
+                    assertTrue(created.await(5, TimeUnit.SECONDS));
+                    return rows(new Object[]{"Physics", 20, 2L});
+                });
+        when(outbox.latestSequence()).thenReturn(10L, 10L);
+        CourseStatisticsService statistics = new CourseStatisticsService(repository, outbox);
+        statistics.initialize();
+
+        // When
+        CompletableFuture<Void> reconcile = CompletableFuture.runAsync(statistics::reconcile);
+        assertTrue(querying.await(5, TimeUnit.SECONDS));
+        statistics.onStudentChanged(created(11L, student(3L, "Physics", 22)));
+        statistics.onStudentChanged(created(12L, student(4L, "Chemistry", 19)));
+        created.countDown();
+        reconcile.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(3L, statistics.getCount("Physics"));
+        assertEquals(22, statistics.getStatistics("Physics").getMaxAge());
+        assertEquals(1L, statistics.getCount("Chemistry"));
+        assertEquals(List.of("Chemistry", "Physics"), statistics.getCourses());
+    }
+
+    @Test
+    void testReconcile_DoesNotCountTwiceChangesTheQueryAlreadySaw() throws Exception {
+        // Given - A third Physics student committed before the reconcile query but delivered while it runs
+        StudentRepository repository = mock(StudentRepository.class);
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        when(repository.countStudentsByCourseAndAge())
+                .thenReturn(rows(new Object[]{"Physics", 20, 2L}))
+                .thenAnswer(invocation -> {
+                    querying.countDown();
+                    assertTrue(delivered.await(5, TimeUnit.SECONDS));
+                    return rows(new Object[]{"Physics", 20, 2L}, new Object[]{"Physics", 22, 1L});
+                });
+        when(outbox.latestSequence()).thenReturn(10L, 11L);
+        CourseStatisticsService statistics = new CourseStatisticsService(repository, outbox);
+        statistics.initialize();
+
+        // When - The change arrives during the query, and again once the figures are replaced
+        CompletableFuture<Void> reconcile = CompletableFuture.runAsync(statistics::reconcile);
+        assertTrue(querying.await(5, TimeUnit.SECONDS));
+        statistics.onStudentChanged(created(11L, student(3L, "Physics", 22)));
+        delivered.countDown();
+        reconcile.get(5, TimeUnit.SECONDS);
+        statistics.onStudentChanged(created(11L, student(3L, "Physics", 22)));
+
+        // Then
+        assertEquals(3L, statistics.getCount("Physics"));
+        assertEquals(22, statistics.getStatistics("Physics").getMaxAge());
+    }
+
+    private static StudentChangedEvent created(long sequence, StudentDTO student) {
+        StudentChangedEvent event = StudentChangedEvent.created(student);
+        event.setSequence(sequence);
+        return event;
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    private static StudentDTO student(Long id, String course, int age) {
+        return new StudentDTO(id, "Stat", "Student", "stat" + id + "@test.com", course, age, null, null);
+    }
+}
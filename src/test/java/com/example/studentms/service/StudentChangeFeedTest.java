@@ -0,0 +1,161 @@
+package com.example.studentms.service;
+
+import com.example.studentms.dto.StudentChangeDTO;
+import com.example.studentms.dto.StudentChangeFeedDTO;
+import com.example.studentms.dto.StudentCreateDTO;
+import com.example.studentms.event.ChangeEventOutbox;
+import com.example.studentms.exception.ChangeFeedExpiredException;
+import com.example.studentms.security.AdminTokenService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// Student change feed read from the outbox of the fully configured application (H2 test database);
+// streams are only published when a test calls publish()
+@SpringBootTest(properties = "studentms.change-feed.stream-poll-interval=PT1H")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StudentChangeFeedTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentChangeFeedService changeFeedService;
+
+    @Autowired
+    private ChangeEventOutbox outbox;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AdminTokenService tokenService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testChanges_AreReturnedInCommitOrderPageByPage() {
+        // Given
+        long since = outbox.latestSequence();
+        Long studentId = studentService.createStudent(
+                new StudentCreateDTO("Feed", "Student", "feed@test.com", "Physics", 20)).getStudentId();
+        studentService.updateStudent(studentId,
+                new StudentCreateDTO("Fed", "Student", "feed@test.com", "Physics", 21), null);
+        studentService.deleteStudent(studentId);
+
+        // When
+        StudentChangeFeedDTO first = changeFeedService.getChanges(since, 2);
+        StudentChangeFeedDTO second = changeFeedService.getChanges(first.getNextSequence(), 2);
+
+        // Then
+        assertEquals(List.of("CREATED", "UPDATED"), first.getChanges().stream().map(StudentChangeDTO::getChangeType).toList());
+        assertTrue(first.isHasMore());
+        assertEquals("Fed", first.getChanges().get(1).getStudent().getFirstName());
+        assertEquals(1, second.getChanges().size());
+        assertEquals("DELETED", second.getChanges().get(0).getChangeType());
+        assertEquals(studentId, second.getChanges().get(0).getStudentId());
+        assertNull(second.getChanges().get(0).getStudent());
+        assertFalse(second.isHasMore());
+        assertTrue(changeFeedService.getChanges(second.getNextSequence(), 2).getChanges().isEmpty());
+    }
+
+    @Test
+    void testPrunedChanges_AreReportedAsExpired() {
+        // Given - Every change so far is past its retention
+        long since = outbox.latestSequence();
+        Long studentId = studentService.createStudent(
+                new StudentCreateDTO("Pruned", "Student", "pruned@test.com", "Physics", 20)).getStudentId();
+        studentService.deleteStudent(studentId);
+        jdbcTemplate.update("UPDATE change_events SET created_at = DATEADD('YEAR', -1, created_at)");
+
+        // When
+        outbox.pruneExpired();
+
+        // Then
+        assertThrows(ChangeFeedExpiredException.class, () -> changeFeedService.getChanges(since, 10));
+        assertTrue(changeFeedService.getChanges(outbox.latestSequence(), 10).getChanges().isEmpty());
+    }
+
+    @Test
+    void testStream_SendsNewChangesAsServerSentEvents() throws Exception {
+        // Given
+        long since = outbox.latestSequence();
+        MvcResult result = mockMvc.perform(get("/api/students/changes/stream")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.issueToken("admin@test.com"))
+                        .param("since", Long.toString(since)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        Long studentId = studentService.createStudent(
+                new StudentCreateDTO("Streamed", "Student", "streamed@test.com", "Physics", 20)).getStudentId();
+
+        // When - Written by the sender pool, after publish returns
+        changeFeedService.publish();
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!result.getResponse().getContentAsString().contains("Streamed") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.contains("id:" + (since + 1)), body);
+        assertTrue(body.contains("event:" + StudentChangeFeedService.CHANGE_EVENT), body);
+        assertTrue(body.contains("\"firstName\":\"Streamed\""), body);
+        studentService.deleteStudent(studentId);
+    }
+
+    @Test
+    void testStream_FarBehindSubscriberDoesNotHoldBackCurrentOnes() throws Exception {
+        // Given - One subscriber more than a page of changes behind, and one up to date
+        String authorization = "Bearer " + tokenService.issueToken("admin@test.com");
+        MvcResult behind = stream(authorization, outbox.latestSequence());
+        List<StudentCreateDTO> backlog = new ArrayList<>();
+        for (int i = 0; i <= StudentChangeFeedService.MAX_PAGE_SIZE; i++) {
+            backlog.add(new StudentCreateDTO("Backlog", "Student" + i, "backlog" + i + "@test.com", "Backlog", 20));
+        }
+        List<Long> studentIds = new ArrayList<>();
+        studentService.importStudents(backlog).getRows().forEach(row -> studentIds.add(row.getStudentId()));
+        MvcResult current = stream(authorization, outbox.latestSequence());
+        try {
+            studentIds.add(studentService.createStudent(
+                    new StudentCreateDTO("Current", "Student", "current@test.com", "Physics", 20)).getStudentId());
+
+            // When
+            changeFeedService.publish();
+
+            // Then - The current subscriber got the new change from this one publication
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!current.getResponse().getContentAsString().contains("Current") && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(current.getResponse().getContentAsString().contains("\"firstName\":\"Current\""));
+            assertFalse(current.getResponse().getContentAsString().contains("Backlog"));
+            assertFalse(behind.getResponse().getContentAsString().contains("\"firstName\":\"Current\""));
+        } finally {
+            studentIds.forEach(studentService::deleteStudent);
+        }
+    }
+
+    private MvcResult stream(String authorization, long since) throws Exception {
+        return mockMvc.perform(get("/api/students/changes/stream")
+                        .header(HttpHeaders.AUTHORIZATION, authorization)
+                        .param("since", Long.toString(since)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+}
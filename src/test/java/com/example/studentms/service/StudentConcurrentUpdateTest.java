@@ -0,0 +1,173 @@
+package com.example.studentms.service;
+
+import com.example.studentms.config.CacheConfig;
+import com.example.studentms.dto.StudentCreateDTO;
+import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.exception.StudentVersionMismatchException;
+import com.example.studentms.repository.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+// Parallel writers on one student (H2 test database): optimistic locking must neither lose updates
+// nor make writers wait on each other's row locks, and a read racing an update must not cache the older version
+@SpringBootTest
+@ActiveProfiles("test")
+class StudentConcurrentUpdateTest {
+
+    private static final int WRITERS = 4;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @SpyBean
+    private StudentRepository studentRepository;
+
+    private ExecutorService executor;
+    private Long studentId;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(WRITERS);
+        studentId = studentService.createStudent(
+                new StudentCreateDTO("Concurrent", "Writer", "concurrent@test.com", "Physics", 16)).getStudentId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        studentService.deleteStudent(studentId);
+    }
+
+    @Test
+    void testConditionalUpdates_ReadModifyWriteLosesNoIncrement() throws Exception {
+        // Given
+        int incrementsPerWriter = 10;
+        AtomicInteger conflicts = new AtomicInteger();
+
+        // When: every writer increments the age from the copy it read, re-reading after a conflict
+        runWriters(() -> {
+            for (int i = 0; i < incrementsPerWriter; i++) {
+                while (true) {
+                    StudentDTO current = studentService.getStudentById(studentId);
+                    try {
+                        studentService.updateStudent(studentId, new StudentCreateDTO(current.getFirstName(),
+                                current.getLastName(), current.getEmail(), current.getCourse(), current.getAge() + 1),
+                                current.getVersion());
+                        break;
+                    } catch (StudentVersionMismatchException | OptimisticLockingFailureException e) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+            }
+        });
+
+        // Then
+        StudentDTO result = studentService.getStudentById(studentId);
+        assertEquals(16 + WRITERS * incrementsPerWriter, result.getAge(),
+                "lost updates with " + conflicts.get() + " conflicts");
+        assertEquals(WRITERS * incrementsPerWriter, result.getVersion());
+    }
+
+    @Test
+    void testUnconditionalUpdates_ConcurrentConflictsAreRetried() throws Exception {
+        // Given
+        int rounds = 5;
+        AtomicInteger updates = new AtomicInteger();
+
+        // When: all writers update at once, round after round, without an expected version
+        // (each with a different name, since an update that changes nothing writes nothing)
+        for (int round = 0; round < rounds; round++) {
+            runWriters(() -> studentService.updateStudent(studentId, new StudentCreateDTO(
+                    "Update" + updates.incrementAndGet(), "Writer", "concurrent@test.com", "Physics", 20), null));
+        }
+
+        // Then: no writer saw a conflict and every update was applied
+        StudentDTO result = studentService.getStudentById(studentId);
+        assertEquals(WRITERS * rounds, result.getVersion());
+    }
+
+    @Test
+    void testStaleVersion_IsRejectedWithCurrentVersion() {
+        // Given
+        StudentDTO original = studentService.getStudentById(studentId);
+        studentService.updateStudent(studentId,
+                new StudentCreateDTO("First", "Writer", "concurrent@test.com", "Physics", 17), original.getVersion());
+
+        // When & Then
+        StudentVersionMismatchException e = assertThrows(StudentVersionMismatchException.class,
+                () -> studentService.updateStudent(studentId,
+                        new StudentCreateDTO("Second", "Writer", "concurrent@test.com", "Physics", 18), original.getVersion()));
+        assertEquals(original.getVersion() + 1, e.getCurrentVersion());
+        assertEquals("First", studentService.getStudentById(studentId).getFirstName());
+    }
+
+    @Test
+    void testReadRacingAnUpdate_DoesNotReplaceTheUpdatedCacheEntry() throws Exception {
+        // Given - A cache miss that has loaded the student and is held before caching it
+        cacheManager.getCache(CacheConfig.STUDENTS).evict(studentId);
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch updated = new CountDownLatch(1);
+        // The spy of a repository (an interface) delegates to it through its default answer
+        StudentRepository spy = AopTestUtils.getUltimateTargetObject(studentRepository);
+        Answer<?> repository = mockingDetails(spy).getMockCreationSettings().getDefaultAnswer();
+        doAnswer(invocation -> {
+            Object student = repository.answer(invocation);
+            loaded.countDown();
+            assertTrue(updated.await(10, TimeUnit.SECONDS));
+            return student;
+        }).when(spy).findDTOById(studentId);
+        Future<StudentDTO> read = executor.submit(() -> studentService.getStudentById(studentId));
+        assertTrue(loaded.await(10, TimeUnit.SECONDS));
+
+        // When - An update commits and caches the next version meanwhile
+        studentService.updateStudent(studentId,
+                new StudentCreateDTO("Updated", "Writer", "concurrent@test.com", "Physics", 17), null);
+        updated.countDown();
+        read.get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals("Updated", studentService.getStudentById(studentId).getFirstName());
+    }
+
+    // Starts every writer at the same moment and waits (bounded) for all of them; rethrows a writer's failure
+    private void runWriters(Runnable writer) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            writers.add(executor.submit(() -> {
+                start.await();
+                writer.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : writers) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.studentms.service;
+
+import com.example.studentms.dto.StudentCreateDTO;
+import com.example.studentms.dto.StudentDTO;
+import com.example.studentms.exception.EmailAlreadyExistsException;
+import com.example.studentms.repository.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Email uniqueness enforced by the students.email constraint alone (H2 test database)
+@SpringBootTest
+@ActiveProfiles("test")
+class StudentEmailUniquenessTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentEmailFilter emailFilter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        createdIds.forEach(studentService::deleteStudent);
+    }
+
+    @Test
+    void testConcurrentCreates_ExactlyOneWinsTheEmail() throws Exception {
+        // Given
+        int writers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<StudentDTO>> results = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < writers; i++) {
+                String firstName = "Writer" + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return studentService.createStudent(
+                            new StudentCreateDTO(firstName, "Racer", "race@test.com", "Physics", 20));
+                }));
+            }
+            start.countDown();
+
+            // Then: one student created, every other writer told the email exists (not a raw constraint error)
+            int created = 0;
+            for (Future<StudentDTO> result : results) {
+                try {
+                    createdIds.add(result.get(60, TimeUnit.SECONDS).getStudentId());
+                    created++;
+                } catch (ExecutionException e) {
+                    assertInstanceOf(EmailAlreadyExistsException.class, e.getCause());
+                }
+            }
+            assertEquals(1, created);
+            assertTrue(studentRepository.findByEmail("race@test.com").isPresent());
+            assertTrue(studentService.existsByEmail("race@test.com"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testUpdateToTakenEmail_ThrowsEmailAlreadyExists() {
+        // Given
+        StudentDTO first = studentService.createStudent(new StudentCreateDTO("First", "Owner", "first@test.com", "Physics", 20));
+        StudentDTO second = studentService.createStudent(new StudentCreateDTO("Second", "Owner", "second@test.com", "Physics", 20));
+        createdIds.add(first.getStudentId());
+        createdIds.add(second.getStudentId());
+
+        // When & Then
+        assertThrows(EmailAlreadyExistsException.class, () -> studentService.updateStudent(second.getStudentId(),
+                new StudentCreateDTO("Second", "Owner", "first@test.com", "Physics", 20), null));
+        assertEquals("second@test.com", studentService.getStudentById(second.getStudentId()).getEmail());
+    }
+
+    @Test
+    void testDuplicateEmail_IsRecognisedWhateverTheUniqueKeyIsNamed() {
+        // Given - A database adopted through the Flyway baseline, whose key has the name Hibernate generated
+        StudentDTO first = studentService.createStudent(new StudentCreateDTO("First", "Legacy", "legacy1@test.com", "Physics", 20));
+        StudentDTO second = studentService.createStudent(new StudentCreateDTO("Second", "Legacy", "legacy2@test.com", "Physics", 20));
+        createdIds.add(first.getStudentId());
+        createdIds.add(second.getStudentId());
+        jdbcTemplate.execute("ALTER TABLE students DROP CONSTRAINT uk_students_email");
+        jdbcTemplate.execute("ALTER TABLE students ADD CONSTRAINT UK_e2rndfrsx22acpq2ty1caeuyw UNIQUE (email)");
+
+        // When & Then
+        try {
+            assertThrows(EmailAlreadyExistsException.class, () -> studentService.createStudent(
+                    new StudentCreateDTO("Third", "Legacy", "legacy1@test.com", "Physics", 20)));
+            assertThrows(EmailAlreadyExistsException.class, () -> studentService.updateStudent(second.getStudentId(),
+                    new StudentCreateDTO("Second", "Legacy", "legacy1@test.com", "Physics", 20), null));
+            assertEquals("legacy2@test.com", studentService.getStudentById(second.getStudentId()).getEmail());
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE students DROP CONSTRAINT UK_e2rndfrsx22acpq2ty1caeuyw");
+            jdbcTemplate.execute("ALTER TABLE students ADD CONSTRAINT uk_students_email UNIQUE (email)");
+        }
+    }
+
+    @Test
+    void testExistsByEmail_UnknownEmailIsRejectedByTheFilter() {
+        // Given
+        StudentDTO student = studentService.createStudent(new StudentCreateDTO("Known", "Student", "Known@Test.com", "Physics", 20));
+        createdIds.add(student.getStudentId());
+
+        // When & Then
+        assertFalse(emailFilter.mightContain("never-stored@test.com"));
+        assertFalse(studentService.existsByEmail("never-stored@test.com"));
+        assertTrue(emailFilter.mightContain("known@test.com"));
+        assertTrue(studentService.existsByEmail("Known@Test.com"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.studentms.service;
+
+import com.example.studentms.dto.StudentCreateDTO;
+import com.example.studentms.dto.StudentImportReportDTO;
+import com.example.studentms.dto.StudentImportRowDTO;
+import com.example.studentms.repository.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+// Bulk import against the H2 test database, whose unique key compares emails case-sensitively
+@SpringBootTest
+@ActiveProfiles("test")
+class StudentImportTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @SpyBean
+    private StudentRepository studentRepository;
+
+    private final List<Long> studentIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        studentIds.forEach(studentService::deleteStudent);
+    }
+
+    @Test
+    void testEmailTakenAfterTheLookup_FailsOnlyItsRow() {
+        // Given - Another request takes the second row's email right after the import looked the emails up
+        // (the spy of a repository, an interface, delegates to it through its default answer)
+        StudentRepository spy = AopTestUtils.getUltimateTargetObject(studentRepository);
+        Answer<?> repository = mockingDetails(spy).getMockCreationSettings().getDefaultAnswer();
+        doAnswer(invocation -> {
+            Object existing = repository.answer(invocation);
+            studentIds.add(CompletableFuture.supplyAsync(() -> studentService.createStudent(
+                    new StudentCreateDTO("Taken", "Meanwhile", "taken-meanwhile@test.com", "Import", 30))).join().getStudentId());
+            return existing;
+        }).when(spy).findExistingEmails(anyCollection());
+
+        // When
+        StudentImportReportDTO report = importStudents("first-row@test.com", "taken-meanwhile@test.com", "third-row@test.com");
+
+        // Then
+        assertEquals(List.of(StudentImportRowDTO.IMPORTED, StudentImportRowDTO.FAILED, StudentImportRowDTO.IMPORTED),
+                report.getRows().stream().map(StudentImportRowDTO::getStatus).toList());
+        assertEquals(List.of("Email already exists: taken-meanwhile@test.com"), report.getRows().get(1).getErrors());
+        assertEquals(2, report.getImported());
+        assertTrue(studentService.existsByEmail("first-row@test.com"));
+        assertTrue(studentService.existsByEmail("third-row@test.com"));
+    }
+
+    @Test
+    void testEmailCaseVariants_AreJudgedLikeCreateStudent() {
+        // Given - createStudent accepts an email differing only in case, as the unique key does
+        studentIds.add(studentService.createStudent(
+                new StudentCreateDTO("Case", "Variant", "case-variant@test.com", "Import", 20)).getStudentId());
+        studentIds.add(studentService.createStudent(
+                new StudentCreateDTO("Case", "Variant", "Case-Variant@test.com", "Import", 20)).getStudentId());
+
+        // When
+        StudentImportReportDTO report = importStudents("CASE-VARIANT@test.com", "case-VARIANT@test.com", "case-variant@test.com");
+
+        // Then - The exact duplicate is refused, the case variants are imported
+        assertEquals(List.of(StudentImportRowDTO.IMPORTED, StudentImportRowDTO.IMPORTED, StudentImportRowDTO.FAILED),
+                report.getRows().stream().map(StudentImportRowDTO::getStatus).toList());
+        assertEquals(List.of("Email already exists: case-variant@test.com"), report.getRows().get(2).getErrors());
+    }
+
+    private StudentImportReportDTO importStudents(String... emails) {
+        List<StudentCreateDTO> students = new ArrayList<>();
+        for (String email : emails) {
+            students.add(new StudentCreateDTO("Imported", "Student", email, "Import", 20));
+        }
+        StudentImportReportDTO report = studentService.importStudents(students);
+        report.getRows().stream().map(StudentImportRowDTO::getStudentId).filter(id -> id != null).forEach(studentIds::add);
+        return report;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.studentms.service;
+
+import com.example.studentms.dto.StudentCreateDTO;
+import com.example.studentms.dto.StudentDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// JSON Merge Patch updates against the H2 test database
+@SpringBootTest
+@ActiveProfiles("test")
+class StudentPatchTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    private StudentDTO original;
+
+    @BeforeEach
+    void setUp() {
+        original = studentService.createStudent(new StudentCreateDTO("Patch", "Target", "patch@test.com", "Physics", 20));
+    }
+
+    @AfterEach
+    void tearDown() {
+        studentService.deleteStudent(original.getStudentId());
+    }
+
+    @Test
+    void testPatch_ChangesOnlyTheGivenFields() {
+        // When
+        StudentDTO patched = studentService.patchStudent(original.getStudentId(),
+                Map.of("course", "Chemistry", "age", 21), original.getVersion());
+
+        // Then
+        assertEquals("Chemistry", patched.getCourse());
+        assertEquals(21, patched.getAge());
+        assertEquals("Patch", patched.getFirstName());
+        assertEquals("Target", patched.getLastName());
+        assertEquals("patch@test.com", patched.getEmail());
+        assertEquals(original.getVersion() + 1, patched.getVersion());
+        assertEquals(patched.getCourse(), studentService.getStudentById(original.getStudentId()).getCourse());
+    }
+
+    @Test
+    void testPatch_UnchangedValuesWriteNothing() {
+        // When
+        StudentDTO patched = studentService.patchStudent(original.getStudentId(),
+                Map.of("firstName", "Patch", "course", "Physics"), null);
+
+        // Then: no new version, and the last modified date is untouched
+        assertEquals(original.getVersion(), patched.getVersion());
+        assertEquals(original.getLastModifiedDate(), patched.getLastModifiedDate());
+    }
+
+    @Test
+    void testPatch_InvalidPatchIsRejected() {
+        // Given
+        Map<String, Object> removal = new HashMap<>();
+        removal.put("lastName", null);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> studentService.patchStudent(original.getStudentId(), Map.of("studentId", 7), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> studentService.patchStudent(original.getStudentId(), Map.of("age", "twenty"), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> studentService.patchStudent(original.getStudentId(), Map.of("email", "not-an-email"), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> studentService.patchStudent(original.getStudentId(), removal, null));
+        assertEquals(original.getVersion(), studentService.getStudentById(original.getStudentId()).getVersion());
+    }
+}
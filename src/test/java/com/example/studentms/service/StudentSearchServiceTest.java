@@ -0,0 +1,121 @@
+package com.example.studentms.service;
+
+import com.example.studentms.dto.StudentDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StudentSearchServiceTest {
+
+    private static StudentDTO student(long id, String firstName, String lastName, String email, String course) {
+        return new StudentDTO(id, firstName, lastName, email, course, 20, null, null);
+    }
+
+    private static StudentSearchService indexedService(int maxScoredCandidates) {
+        StudentSearchService search = new StudentSearchService(null, maxScoredCandidates);
+        search.index(student(1L, "Johnny", "Walker", "jw@school.edu", "Physics"));
+        search.index(student(2L, "Anna", "John", "anna.j@school.edu", "Biology"));
+        search.index(student(3L, "John", "Smith", "john.smith@school.edu", "Computer Science"));
+        search.index(student(4L, "Mary", "Jones", "mary@school.edu", "Johnson Studies"));
+        search.index(student(5L, "Peter", "Parker", "johnp@school.edu", "Physics"));
+        return search;
+    }
+
+    @Test
+    void testSearch_RanksExactNamesOverPrefixesEmailsAndCourses() {
+        // Given
+        StudentSearchService search = indexedService(1000);
+
+        // When & Then
+        // Whole-term name matches (2, 3), then name prefix (1), email prefix (5) and course prefix (4)
+        assertEquals(List.of(2L, 3L, 1L, 5L, 4L), search.search("John", 0, 10));
+        // Only prefixes here: four name matches in ID order, then the email match
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), search.search("jo", 0, 10));
+    }
+
+    @Test
+    void testSearch_LevelWalkMatchesScoredRanking() {
+        // Given
+        StudentSearchService scored = indexedService(1000);
+        StudentSearchService byLevel = indexedService(0);
+
+        // When & Then
+        for (String query : List.of("jo", "john", "ph", "school", "s")) {
+            assertEquals(scored.search(query, 0, 10), byLevel.search(query, 0, 10), query);
+            assertEquals(scored.search(query, 1, 2), byLevel.search(query, 1, 2), query);
+        }
+    }
+
+    @Test
+    void testSearch_AllTokensMustMatch() {
+        // Given
+        StudentSearchService search = indexedService(1000);
+
+        // When & Then
+        assertEquals(List.of(3L), search.search("john sm", 0, 10));
+        assertEquals(List.of(1L, 5L), search.search("phys jo", 0, 10));
+        assertEquals(List.of(), search.search("john xyz", 0, 10));
+        assertEquals(List.of(), search.search("@@", 0, 10));
+    }
+
+    @Test
+    void testSearch_FollowsUpdatesAndDeletes() {
+        // Given
+        StudentSearchService search = indexedService(1000);
+
+        // When
+        search.index(student(3L, "Jack", "Smith", "jack.smith@school.edu", "Computer Science"));
+        search.remove(2L);
+
+        // Then
+        assertEquals(List.of(1L, 5L, 4L), search.search("john", 0, 10));
+        assertEquals(List.of(3L), search.search("jack", 0, 10));
+        assertEquals(4, search.size());
+    }
+
+    @Test
+    void testSearch_ConsistentWhileStudentsAreIndexed() throws Exception {
+        // Given - Readers searching a prefix while a writer keeps adding students under it
+        StudentSearchService search = indexedService(Integer.MAX_VALUE);
+        int readers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(readers + 1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> results = new ArrayList<>();
+
+        // When
+        try {
+            results.add(executor.submit(() -> {
+                for (long id = 100; id < 20_000; id++) {
+                    search.index(student(id, "Joe" + id, "Smith", "joe" + id + "@school.edu", "Physics"));
+                }
+                writing.set(false);
+            }));
+            for (int i = 0; i < readers; i++) {
+                results.add(executor.submit(() -> {
+                    while (writing.get()) {
+                        // The five students indexed up front always match
+                        assertTrue(search.search("jo", 0, 20).size() >= 5);
+                        search.search("jo smi", 0, 20);
+                    }
+                }));
+            }
+
+            // Then - No search failed
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(List.of(100L, 101L), search.search("joe10", 0, 2));
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.studentms.service;
+
+import com.example.studentms.config.HibernateCacheConfig;
+import com.example.studentms.dto.CacheStatsDTO;
+import com.example.studentms.dto.StudentCreateDTO;
+import com.example.studentms.model.Admin;
+import com.example.studentms.repository.AdminRepository;
+import com.example.studentms.repository.StudentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Hibernate second-level, natural-id and query caches of the fully configured application (H2 test database)
+@SpringBootTest
+@ActiveProfiles("test")
+class StudentSecondLevelCacheTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private AdminRepository adminRepository;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> createdIds = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        createdIds.forEach(studentService::deleteStudent);
+        adminRepository.findByEmail("cached-admin@test.com").ifPresent(adminRepository::delete);
+    }
+
+    @Test
+    void testFindById_IsServedFromTheCacheAndSeesUpdates() {
+        // Given
+        Long studentId = create("Cached", "cached@test.com", "Physics");
+        studentRepository.findById(studentId);
+        long hits = region(HibernateCacheConfig.STUDENT_REGION).getHitCount();
+        long loads = statistics.getEntityLoadCount();
+
+        // When
+        assertEquals("Cached", studentRepository.findById(studentId).orElseThrow().getFirstName());
+
+        // Then
+        assertEquals(hits + 1, region(HibernateCacheConfig.STUDENT_REGION).getHitCount());
+        assertEquals(loads, statistics.getEntityLoadCount());
+
+        // When - The update goes through the cached copy, and the next read sees the new values
+        studentService.updateStudent(studentId,
+                new StudentCreateDTO("Updated", "Student", "cached@test.com", "Physics", 21), null);
+
+        // Then
+        assertEquals("Updated", studentRepository.findById(studentId).orElseThrow().getFirstName());
+        assertEquals(1L, studentRepository.findById(studentId).orElseThrow().getVersion());
+    }
+
+    @Test
+    void testFindByEmail_IsResolvedFromTheNaturalIdCache() {
+        // Given
+        Admin admin = adminRepository.save(new Admin("cached-admin@test.com", "hash"));
+        adminRepository.findByEmail("cached-admin@test.com");
+        long naturalIdQueries = statistics.getNaturalIdQueryExecutionCount();
+
+        // When & Then
+        assertEquals(admin.getId(), adminRepository.findByEmail("cached-admin@test.com").orElseThrow().getId());
+        assertTrue(adminRepository.existsByEmail("cached-admin@test.com"));
+        assertFalse(adminRepository.existsByEmail("unknown-admin@test.com"));
+        assertEquals(naturalIdQueries + 1, statistics.getNaturalIdQueryExecutionCount()); // only the unknown email
+    }
+
+    @Test
+    void testStudentEmailChange_IsFoundUnderTheNewEmailOnly() {
+        // Given
+        Long studentId = create("Moving", "old-email@test.com", "Physics");
+        assertTrue(studentRepository.findByEmail("old-email@test.com").isPresent());
+
+        // When
+        studentService.updateStudent(studentId,
+                new StudentCreateDTO("Moving", "Student", "new-email@test.com", "Physics", 20), null);
+
+        // Then
+        assertTrue(studentRepository.findByEmail("old-email@test.com").isEmpty());
+        assertEquals(studentId, studentRepository.findByEmail("new-email@test.com").orElseThrow().getStudentId());
+    }
+
+    @Test
+    void testDistinctCourses_AreCachedUntilStudentsChange() {
+        // Given
+        create("Course", "course-a@test.com", "Cached Course A");
+        studentRepository.findAllDistinctCourses();
+        long hits = region(HibernateCacheConfig.COURSE_NAMES_REGION).getHitCount();
+
+        // When & Then
+        assertTrue(studentRepository.findAllDistinctCourses().contains("Cached Course A"));
+        assertEquals(hits + 1, region(HibernateCacheConfig.COURSE_NAMES_REGION).getHitCount());
+
+        // When - A write to the students table invalidates the cached result
+        create("Course", "course-b@test.com", "Cached Course B");
+
+        // Then
+        assertTrue(studentRepository.findAllDistinctCourses().contains("Cached Course B"));
+        assertEquals(hits + 1, region(HibernateCacheConfig.COURSE_NAMES_REGION).getHitCount());
+    }
+
+    @Test
+    void testCacheStatistics_ListTheHibernateRegions() {
+        // When
+        List<String> names = cacheStatisticsService.getCacheStatistics().stream().map(CacheStatsDTO::getName).toList();
+
+        // Then
+        for (String region : HibernateCacheConfig.REGIONS) {
+            assertTrue(names.contains("hibernate." + region), region);
+        }
+    }
+
+    private Long create(String firstName, String email, String course) {
+        Long studentId = studentService.createStudent(
+                new StudentCreateDTO(firstName, "Student", email, course, 20)).getStudentId();
+        createdIds.add(studentId);
+        return studentId;
+    }
+
+    private CacheRegionStatistics region(String region) {
+        return statistics.getCacheRegionStatistics(region);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.studentms.tracing;
+
+import com.example.studentms.security.AdminTokenService;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Spans of one request, from the HTTP server span down to the SQL statement (every trace sampled)
+@SpringBootTest(properties = "management.tracing.sampling.probability=1.0")
+@AutoConfigureObservability(metrics = false)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TracingTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private AdminTokenService tokenService;
+
+    @BeforeEach
+    void setUp() {
+        spanExporter.reset();
+    }
+
+    @Test
+    void testRequest_SpansFromControllerToSql() throws Exception {
+        // Given - A caller's W3C trace context
+        String traceparent = "00-" + TRACE_ID + "-00f067aa0ba902b7-01";
+
+        // When
+        mockMvc.perform(get("/api/students/course/Tracing")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.issueToken("admin@test.com"))
+                        .header("traceparent", traceparent))
+                .andExpect(status().isOk());
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+
+        // Then - The spans continue the caller's trace, nested server > controller > service > repository > SQL
+        List<SpanData> spans = spanExporter.getFinishedSpanItems().stream()
+                .filter(span -> span.getTraceId().equals(TRACE_ID))
+                .toList();
+
+        SpanData server = span(spans, "http get /api/students/course/{course}");
+        SpanData controller = span(spans, "StudentController.getStudentsByCourse");
+        SpanData service = span(spans, "StudentServiceImpl.getStudentsByCourse");
+        SpanData repository = span(spans, "StudentRepository.findDTOsByCourse");
+        assertEquals(SpanKind.SERVER, server.getKind());
+        assertEquals(server.getSpanId(), controller.getParentSpanId());
+        // the span of the connection the request holds (acquired by its first query) may sit in between
+        assertTrue(isDescendant(spans, service, controller));
+        assertTrue(isDescendant(spans, repository, service));
+        assertEquals(0L, repository.getAttributes().get(AttributeKey.longKey("studentms.rows")));
+
+        assertTrue(spans.stream()
+                .filter(span -> span.getName().equals("query"))
+                .filter(span -> String.valueOf(span.getAttributes().get(AttributeKey.stringKey("jdbc.query[0]"))).contains("students"))
+                .anyMatch(query -> isDescendant(spans, query, repository)));
+    }
+
+    private static SpanData span(List<SpanData> spans, String name) {
+        return spans.stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No span " + name + " in "
+                        + spans.stream().map(SpanData::getName).toList()));
+    }
+
+    private static boolean isDescendant(List<SpanData> spans, SpanData span, SpanData ancestor) {
+        String parentId = span.getParentSpanId();
+        while (parentId != null) {
+            if (parentId.equals(ancestor.getSpanId())) {
+                return true;
+            }
+            String id = parentId;
+            parentId = spans.stream().filter(s -> s.getSpanId().equals(id)).map(SpanData::getParentSpanId)
+                    .findFirst().orElse(null);
+        }
+        return false;
+    }
+}